@@ -29,14 +29,22 @@ android {
     compileOptions {
         sourceCompatibility = JavaVersion.VERSION_11
         targetCompatibility = JavaVersion.VERSION_11
+        // java.time (date-range filter) on API 24-25.
+        isCoreLibraryDesugaringEnabled = true
     }
     buildFeatures {
         viewBinding = true
     }
+    testOptions {
+        // Robolectric: the Room/sync tests and benchmarks run on the JVM.
+        unitTests.isIncludeAndroidResources = true
+    }
 }
 
 dependencies {
 
+    coreLibraryDesugaring("com.android.tools:desugar_jdk_libs:2.1.2")
+
     // Core
     implementation(libs.appcompat)
     implementation(libs.material)
@@ -55,6 +63,12 @@ dependencies {
     implementation(libs.room.runtime)
     annotationProcessor(libs.room.compiler)
 
+    // Paging — keyset-paged journal list (ListenableFuture flavour for Java)
+    implementation(libs.paging.runtime)
+    implementation(libs.room.paging)
+    implementation(libs.paging.guava)
+    implementation(libs.concurrent.futures)
+
     //firebase
     implementation(platform("com.google.firebase:firebase-bom:34.9.0"))
     implementation("com.google.firebase:firebase-analytics")
@@ -70,6 +84,10 @@ dependencies {
     // Glide — loads remote images into ImageView with caching
     implementation("com.github.bumptech.glide:glide:4.16.0")
     annotationProcessor("com.github.bumptech.glide:compiler:4.16.0")
+    // RecyclerViewPreloader — prefetches video thumbnails ahead of the scroll
+    implementation("com.github.bumptech.glide:recyclerview-integration:4.16.0") {
+        isTransitive = false
+    }
 
     //RecyclerView
     implementation("androidx.recyclerview:recyclerview:1.3.2")
@@ -84,6 +102,9 @@ dependencies {
 
     //Test
     testImplementation(libs.junit)
+    testImplementation(libs.ext.junit)
+    testImplementation(libs.test.core)
+    testImplementation(libs.robolectric)
     androidTestImplementation(libs.ext.junit)
     androidTestImplementation(libs.espresso.core)
    }
\ No newline at end of file
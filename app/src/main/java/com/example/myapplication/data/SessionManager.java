@@ -10,6 +10,7 @@ import com.google.firebase.auth.FirebaseUser;
 public class SessionManager {
 
     private static final String PREFS = "mindjar_session";
+    private static final String KEY_LIVE_SYNC = "live_sync_enabled";
     private final SharedPreferences sp;
 
     public SessionManager(Context context) {
@@ -28,6 +29,15 @@ public class SessionManager {
         return FirebaseAuth.getInstance().getCurrentUser() != null;
     }
 
+    /** Opt-in: keep the journal in sync in real time while it is on screen. */
+    public boolean isLiveSyncEnabled() {
+        return sp.getBoolean(KEY_LIVE_SYNC, false);
+    }
+
+    public void setLiveSyncEnabled(boolean enabled) {
+        sp.edit().putBoolean(KEY_LIVE_SYNC, enabled).apply();
+    }
+
     /** Signs out the current user and clears local prefs. */
     public void clearSession() {
         FirebaseAuth.getInstance().signOut();
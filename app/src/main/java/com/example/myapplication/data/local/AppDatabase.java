@@ -1,17 +1,23 @@
 package com.example.myapplication.data.local;
 
 import android.content.Context;
+import android.database.Cursor;
 
+import androidx.annotation.NonNull;
 import androidx.room.Database;
 import androidx.room.Room;
 import androidx.room.RoomDatabase;
+import androidx.room.migration.Migration;
+import androidx.sqlite.db.SupportSQLiteDatabase;
 
 import com.example.myapplication.data.local.dao.*;
 import com.example.myapplication.data.local.entity.*;
 
 @Database(
-        entities = {JournalEntryEntity.class, VideoEntity.class, HotlineEntity.class},
-        version = 12,
+        entities = {JournalEntryEntity.class, JournalEntryFts.class, JournalOutboxEntity.class,
+                JournalSyncStateEntity.class, VideoEntity.class, HotlineEntity.class,
+                HopeImageEntity.class},
+        version = 19,
         exportSchema = true
 )
 
@@ -22,8 +28,139 @@ public abstract class AppDatabase extends RoomDatabase {
     private static volatile AppDatabase INSTANCE;
 
     public abstract JournalEntryDao journalEntryDao();
+    public abstract JournalOutboxDao journalOutboxDao();
+    public abstract JournalSyncStateDao journalSyncStateDao();
     public abstract VideoDao videoDao();
     public abstract HotlineDao hotlineDao();
+    public abstract HopeImageDao hopeImageDao();
+
+    // ── Migrations ─────────────────────────────────────────────────
+    // Journal changes get real migrations so unsynced entries survive an
+    // upgrade; fallbackToDestructiveMigration() still covers everything else.
+
+    // 12 → 13: replace the single-column userId / createdAtEpochMs indexes
+    // with one composite (userId, createdAtEpochMs) index.
+    static final Migration MIGRATION_12_13 = new Migration(12, 13) {
+        @Override
+        public void migrate(@NonNull SupportSQLiteDatabase db) {
+            db.execSQL("DROP INDEX IF EXISTS `index_journal_entries_userId`");
+            db.execSQL("DROP INDEX IF EXISTS `index_journal_entries_createdAtEpochMs`");
+            db.execSQL("CREATE INDEX IF NOT EXISTS `index_journal_entries_userId_createdAtEpochMs`"
+                    + " ON `journal_entries` (`userId`, `createdAtEpochMs`)");
+        }
+    };
+
+    // 13 → 14: add the journal_entries_fts external-content index and the
+    // same sync triggers Room generates for @Fts4(contentEntity = ...),
+    // then 'rebuild' to index the rows that already exist.
+    static final Migration MIGRATION_13_14 = new Migration(13, 14) {
+        @Override
+        public void migrate(@NonNull SupportSQLiteDatabase db) {
+            db.execSQL("CREATE VIRTUAL TABLE IF NOT EXISTS `journal_entries_fts`"
+                    + " USING FTS4(`description` TEXT, `emotion` TEXT,"
+                    + " content=`journal_entries`)");
+            db.execSQL("CREATE TRIGGER IF NOT EXISTS"
+                    + " room_fts_content_sync_journal_entries_fts_BEFORE_UPDATE"
+                    + " BEFORE UPDATE ON `journal_entries` BEGIN"
+                    + " DELETE FROM `journal_entries_fts` WHERE `docid`=OLD.`rowid`; END");
+            db.execSQL("CREATE TRIGGER IF NOT EXISTS"
+                    + " room_fts_content_sync_journal_entries_fts_BEFORE_DELETE"
+                    + " BEFORE DELETE ON `journal_entries` BEGIN"
+                    + " DELETE FROM `journal_entries_fts` WHERE `docid`=OLD.`rowid`; END");
+            db.execSQL("CREATE TRIGGER IF NOT EXISTS"
+                    + " room_fts_content_sync_journal_entries_fts_AFTER_UPDATE"
+                    + " AFTER UPDATE ON `journal_entries` BEGIN"
+                    + " INSERT INTO `journal_entries_fts`(`docid`, `description`, `emotion`)"
+                    + " VALUES (NEW.`rowid`, NEW.`description`, NEW.`emotion`); END");
+            db.execSQL("CREATE TRIGGER IF NOT EXISTS"
+                    + " room_fts_content_sync_journal_entries_fts_AFTER_INSERT"
+                    + " AFTER INSERT ON `journal_entries` BEGIN"
+                    + " INSERT INTO `journal_entries_fts`(`docid`, `description`, `emotion`)"
+                    + " VALUES (NEW.`rowid`, NEW.`description`, NEW.`emotion`); END");
+            db.execSQL("INSERT INTO `journal_entries_fts`(`journal_entries_fts`)"
+                    + " VALUES ('rebuild')");
+        }
+    };
+
+    // 14 → 15: add the journal_outbox table and seed it with an upsert for
+    // every entry that was still waiting on the old syncedToFirebase scan.
+    static final Migration MIGRATION_14_15 = new Migration(14, 15) {
+        @Override
+        public void migrate(@NonNull SupportSQLiteDatabase db) {
+            db.execSQL("CREATE TABLE IF NOT EXISTS `journal_outbox` ("
+                    + "`id` INTEGER PRIMARY KEY AUTOINCREMENT NOT NULL,"
+                    + " `userId` TEXT NOT NULL, `firestoreId` TEXT NOT NULL,"
+                    + " `op` TEXT NOT NULL, `enqueuedAtEpochMs` INTEGER NOT NULL)");
+            db.execSQL("CREATE INDEX IF NOT EXISTS `index_journal_outbox_userId`"
+                    + " ON `journal_outbox` (`userId`)");
+            db.execSQL("CREATE INDEX IF NOT EXISTS `index_journal_outbox_firestoreId`"
+                    + " ON `journal_outbox` (`firestoreId`)");
+            db.execSQL("INSERT INTO `journal_outbox` (`userId`, `firestoreId`, `op`, `enqueuedAtEpochMs`)"
+                    + " SELECT `userId`, `firestoreId`, 'upsert', `createdAtEpochMs`"
+                    + " FROM `journal_entries`"
+                    + " WHERE `syncedToFirebase` = 0"
+                    + " AND `userId` IS NOT NULL AND `firestoreId` IS NOT NULL"
+                    + " ORDER BY `entryId`");
+        }
+    };
+
+    // 15 → 16: add journal_entries.updatedAtEpochMs (backfilled from
+    // createdAtEpochMs) and the per-user journal_sync_state watermark table.
+    // No watermark row = the next restore does one full reconcile.
+    static final Migration MIGRATION_15_16 = new Migration(15, 16) {
+        @Override
+        public void migrate(@NonNull SupportSQLiteDatabase db) {
+            db.execSQL("ALTER TABLE `journal_entries`"
+                    + " ADD COLUMN `updatedAtEpochMs` INTEGER NOT NULL DEFAULT 0");
+            db.execSQL("UPDATE `journal_entries` SET `updatedAtEpochMs` = `createdAtEpochMs`");
+            db.execSQL("CREATE TABLE IF NOT EXISTS `journal_sync_state` ("
+                    + "`userId` TEXT NOT NULL, `watermarkEpochMs` INTEGER NOT NULL,"
+                    + " PRIMARY KEY(`userId`))");
+        }
+    };
+
+    // 16 → 17: add contentHash / syncedContentHash. SQLite has no SHA-256,
+    // so existing rows are hashed here in Java, inside the migration transaction.
+    static final Migration MIGRATION_16_17 = new Migration(16, 17) {
+        @Override
+        public void migrate(@NonNull SupportSQLiteDatabase db) {
+            db.execSQL("ALTER TABLE `journal_entries` ADD COLUMN `contentHash` TEXT");
+            db.execSQL("ALTER TABLE `journal_entries` ADD COLUMN `syncedContentHash` TEXT");
+            try (Cursor c = db.query("SELECT `entryId`, `emotion`, `description`,"
+                    + " `syncedToFirebase` FROM `journal_entries`")) {
+                while (c.moveToNext()) {
+                    String hash = JournalEntryEntity.hashContent(c.getString(1), c.getString(2));
+                    boolean synced = c.getInt(3) != 0;
+                    db.execSQL("UPDATE `journal_entries` SET `contentHash` = ?,"
+                                    + " `syncedContentHash` = ? WHERE `entryId` = ?",
+                            new Object[]{hash, synced ? hash : null, c.getLong(0)});
+                }
+            }
+        }
+    };
+
+    // 17 → 18: add the hope_images cache table (empty until the first fetch).
+    static final Migration MIGRATION_17_18 = new Migration(17, 18) {
+        @Override
+        public void migrate(@NonNull SupportSQLiteDatabase db) {
+            db.execSQL("CREATE TABLE IF NOT EXISTS `hope_images` ("
+                    + "`url` TEXT NOT NULL, `order` INTEGER NOT NULL, PRIMARY KEY(`url`))");
+        }
+    };
+
+    // 18 → 19: the restore watermark moves from writer-clock millis to server
+    // commit time (micros). Old values cannot be converted, so the table is
+    // recreated empty: each device does one full reconcile, which also
+    // stamps documents written before the server time field existed.
+    static final Migration MIGRATION_18_19 = new Migration(18, 19) {
+        @Override
+        public void migrate(@NonNull SupportSQLiteDatabase db) {
+            db.execSQL("DROP TABLE IF EXISTS `journal_sync_state`");
+            db.execSQL("CREATE TABLE IF NOT EXISTS `journal_sync_state` ("
+                    + "`userId` TEXT NOT NULL, `serverWatermarkMicros` INTEGER NOT NULL,"
+                    + " PRIMARY KEY(`userId`))");
+        }
+    };
 
     // Singleton DB instance
     public static AppDatabase getInstance(Context context) {
@@ -35,6 +172,14 @@ public abstract class AppDatabase extends RoomDatabase {
                                     AppDatabase.class,
                                     "mindjar.db"
                             )
+                            // WAL: readers see the last commit while the single
+                            // writer holds a transaction (see AppExecutors).
+                            .setJournalMode(JournalMode.WRITE_AHEAD_LOGGING)
+                            .setQueryExecutor(AppExecutors.dbRead())
+                            .setTransactionExecutor(AppExecutors.dbWrite())
+                            .addMigrations(MIGRATION_12_13, MIGRATION_13_14, MIGRATION_14_15,
+                                    MIGRATION_15_16, MIGRATION_16_17, MIGRATION_17_18,
+                                    MIGRATION_18_19)
                             .fallbackToDestructiveMigration()  // to be removed later.
                             .build();
                 }
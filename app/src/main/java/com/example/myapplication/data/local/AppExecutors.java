@@ -1,13 +1,43 @@
 package com.example.myapplication.data.local;
 
-import java.util.concurrent.ExecutorService;
+import android.util.Log;
+
 import java.util.concurrent.Executors;
 
 
+/**
+ * Database executors.
+ * Reads run on a small pool so they never queue behind a long write
+ * (e.g. a restoreFromFirestore merge). Writes stay on ONE thread, so
+ * mutations are applied in submission order and never contend for
+ * SQLite's single write lock. With WAL enabled on AppDatabase, readers
+ * see the last committed state while a write transaction is running.
+ */
 public class AppExecutors {
-    private static final ExecutorService DB = Executors.newSingleThreadExecutor();
 
-    public static ExecutorService db() {
-        return DB;
+    // Small on purpose — SQLite reads are short and Room keeps one
+    // connection per reader thread in WAL mode.
+    private static final int READER_THREADS = 3;
+
+    private static final MeteredExecutor DB_READ = new MeteredExecutor(
+            "db-read", Executors.newFixedThreadPool(READER_THREADS));
+
+    private static final MeteredExecutor DB_WRITE = new MeteredExecutor(
+            "db-write", Executors.newSingleThreadExecutor());
+
+    /** Queries only — no inserts, updates or deletes. */
+    public static MeteredExecutor dbRead() {
+        return DB_READ;
+    }
+
+    /** Every mutation, including any read-modify-write sequence. */
+    public static MeteredExecutor dbWrite() {
+        return DB_WRITE;
+    }
+
+    /** Dumps queue depth and wait-time metrics for both queues to Logcat. */
+    public static void logStats() {
+        Log.i("DbQueue", DB_READ.stats());
+        Log.i("DbQueue", DB_WRITE.stats());
     }
 }
@@ -0,0 +1,68 @@
+package com.example.myapplication.data.local;
+
+import android.util.Log;
+
+import androidx.annotation.NonNull;
+
+import java.util.Locale;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Executor wrapper that records per-queue metrics:
+ * current / peak queue depth, task count, and wait time
+ * (time between execute() and the task actually starting).
+ * A task that waits longer than SLOW_WAIT_MS is logged — that is
+ * head-of-line blocking showing up in Logcat.
+ */
+public class MeteredExecutor implements Executor {
+
+    private static final String TAG = "DbQueue";
+    private static final long SLOW_WAIT_MS = 100;
+
+    private final String name;
+    private final ExecutorService delegate;
+
+    private final AtomicInteger depth     = new AtomicInteger();
+    private final AtomicInteger peakDepth = new AtomicInteger();
+    private final AtomicLong    tasks     = new AtomicLong();
+    private final AtomicLong    totalWaitNs = new AtomicLong();
+    private final AtomicLong    maxWaitNs   = new AtomicLong();
+
+    MeteredExecutor(String name, ExecutorService delegate) {
+        this.name     = name;
+        this.delegate = delegate;
+    }
+
+    @Override
+    public void execute(@NonNull Runnable command) {
+        long enqueuedAt = System.nanoTime();
+        int  queued     = depth.incrementAndGet();
+        peakDepth.accumulateAndGet(queued, Math::max);
+
+        delegate.execute(() -> {
+            long waitNs = System.nanoTime() - enqueuedAt;
+            depth.decrementAndGet();
+            tasks.incrementAndGet();
+            totalWaitNs.addAndGet(waitNs);
+            maxWaitNs.accumulateAndGet(waitNs, Math::max);
+
+            if (waitNs / 1_000_000 >= SLOW_WAIT_MS) {
+                Log.w(TAG, name + ": task waited " + waitNs / 1_000_000
+                        + " ms (queue depth " + depth.get() + ")");
+            }
+            command.run();
+        });
+    }
+
+    /** One-line summary for Logcat or a debug screen. */
+    public String stats() {
+        long n = tasks.get();
+        double avgMs = n == 0 ? 0 : totalWaitNs.get() / 1e6 / n;
+        return String.format(Locale.US,
+                "%s: depth=%d peak=%d tasks=%d avgWait=%.1fms maxWait=%.1fms",
+                name, depth.get(), peakDepth.get(), n, avgMs, maxWaitNs.get() / 1e6);
+    }
+}
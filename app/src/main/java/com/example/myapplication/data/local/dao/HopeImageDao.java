@@ -0,0 +1,50 @@
+package com.example.myapplication.data.local.dao;
+
+import androidx.room.Dao;
+import androidx.room.Insert;
+import androidx.room.OnConflictStrategy;
+import androidx.room.Query;
+import androidx.room.Transaction;
+
+import com.example.myapplication.data.local.entity.HopeImageEntity;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * DAO for hope image cache operations.
+ */
+@Dao
+public interface HopeImageDao {
+
+    @Query("SELECT * FROM hope_images ORDER BY `order` ASC")
+    List<HopeImageEntity> getAll();
+
+    @Insert(onConflict = OnConflictStrategy.REPLACE)
+    void upsertAll(List<HopeImageEntity> images);
+
+    @Query("DELETE FROM hope_images WHERE url IN (:urls)")
+    void deleteByUrls(Collection<String> urls);
+
+    /** RemoteListCache.Store#replace for the hope_images table. */
+    @Transaction
+    default boolean applyDiff(List<HopeImageEntity> fresh) {
+        Map<String, HopeImageEntity> cached = new HashMap<>();
+        for (HopeImageEntity h : getAll()) cached.put(h.url, h);
+
+        List<HopeImageEntity> upserts = new ArrayList<>();
+        for (HopeImageEntity h : fresh) {
+            HopeImageEntity old = cached.remove(h.url);
+            if (old == null || !old.sameContentAs(h)) upserts.add(h);
+        }
+        // Whatever is left in 'cached' is gone remotely.
+        if (upserts.isEmpty() && cached.isEmpty()) return false;
+
+        if (!upserts.isEmpty()) upsertAll(upserts);
+        if (!cached.isEmpty())  deleteByUrls(cached.keySet());
+        return true;
+    }
+}
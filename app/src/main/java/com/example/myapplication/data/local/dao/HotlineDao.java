@@ -4,10 +4,15 @@ import androidx.room.Dao;
 import androidx.room.Insert;
 import androidx.room.OnConflictStrategy;
 import androidx.room.Query;
+import androidx.room.Transaction;
 
 import com.example.myapplication.data.local.entity.HotlineEntity;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 @Dao
 public interface HotlineDao {
@@ -24,7 +29,32 @@ public interface HotlineDao {
     @Query("SELECT COUNT(*) FROM hotlines")
     int getCount();
 
-    /** Clear all cached hotlines (used before a full refresh). */
+    /** Clear all cached hotlines. */
     @Query("DELETE FROM hotlines")
     void deleteAll();
+
+    @Insert(onConflict = OnConflictStrategy.REPLACE)
+    void upsertAll(List<HotlineEntity> hotlines);
+
+    @Query("DELETE FROM hotlines WHERE phone IN (:phones)")
+    void deleteByPhones(Collection<String> phones);
+
+    /** RemoteListCache.Store#replace for the hotlines table. */
+    @Transaction
+    default boolean applyDiff(List<HotlineEntity> fresh) {
+        Map<String, HotlineEntity> cached = new HashMap<>();
+        for (HotlineEntity h : getAll()) cached.put(h.phone, h);
+
+        List<HotlineEntity> upserts = new ArrayList<>();
+        for (HotlineEntity h : fresh) {
+            HotlineEntity old = cached.remove(h.phone);
+            if (old == null || !old.sameContentAs(h)) upserts.add(h);
+        }
+        // Whatever is left in 'cached' is gone remotely.
+        if (upserts.isEmpty() && cached.isEmpty()) return false;
+
+        if (!upserts.isEmpty()) upsertAll(upserts);
+        if (!cached.isEmpty())  deleteByPhones(cached.keySet());
+        return true;
+    }
 }
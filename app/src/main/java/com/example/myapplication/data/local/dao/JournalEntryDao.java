@@ -1,13 +1,22 @@
 package com.example.myapplication.data.local.dao;
 
+import androidx.paging.PagingSource;
 import androidx.room.Dao;
 import androidx.room.Insert;
 import androidx.room.Query;
+import androidx.room.Transaction;
 import androidx.room.Update;
 
 import com.example.myapplication.data.local.entity.JournalEntryEntity;
+import com.example.myapplication.data.local.entity.JournalEntryRow;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 @Dao
 public interface JournalEntryDao {
@@ -22,21 +31,95 @@ public interface JournalEntryDao {
             " ORDER BY createdAtEpochMs DESC")
     List<JournalEntryEntity> getEntriesByUser(String userId);
 
+    // Columns for the list-row projection. The description is cut to a
+    // preview in SQL so full text never leaves SQLite for list screens.
+    String ROW_COLUMNS = "entryId, emotion, createdAtEpochMs, syncedToFirebase," +
+            " substr(description, 1, " + JournalEntryRow.PREVIEW_LENGTH + ") AS preview";
+
+    // Keyset paging — first page of the list (newest entries).
+    // entryId breaks ties between entries saved in the same millisecond so
+    // the (createdAtEpochMs, entryId) pair is a strict total order.
+    @Query("SELECT " + ROW_COLUMNS + " FROM journal_entries WHERE userId = :userId" +
+            " ORDER BY createdAtEpochMs DESC, entryId DESC LIMIT :limit")
+    List<JournalEntryRow> getFirstRowPage(String userId, int limit);
+
+    // Keyset paging — next page strictly older than the last row already shown.
+    // Seeks straight to the key instead of using OFFSET, so page N costs the
+    // same as page 1 no matter how long the history is.
+    @Query("SELECT " + ROW_COLUMNS + " FROM journal_entries WHERE userId = :userId" +
+            " AND (createdAtEpochMs < :createdAtEpochMs" +
+            " OR (createdAtEpochMs = :createdAtEpochMs AND entryId < :entryId))" +
+            " ORDER BY createdAtEpochMs DESC, entryId DESC LIMIT :limit")
+    List<JournalEntryRow> getRowPageBefore(String userId, long createdAtEpochMs,
+                                           long entryId, int limit);
+
+    // ── Search ──────────────────────────────────────────────────────
+
+    // Number of term hits in the current FTS row. offsets() lists four
+    // space-separated integers per hit (column, term, byte offset, size), so
+    // hits = (spaces + 1) / 4 — independent of where in the text they are.
+    // (matchinfo() would need a registered function to decode its blob;
+    // Android's framework SQLite cannot register one.)
+    String FTS_HITS = "((length(offsets(journal_entries_fts))" +
+            " - length(replace(offsets(journal_entries_fts), ' ', '')) + 1) / 4)";
+
+    // Full-text search through journal_entries_fts, ranked then paged.
+    // Rank = FTS_HITS, most hits first (FTS4 has no built-in bm25); ties
+    // fall back to newest first.
+    // :emotion NULL = any emotion; the date range is inclusive.
+    @Query("SELECT e.entryId, e.emotion, e.createdAtEpochMs, e.syncedToFirebase," +
+            " substr(e.description, 1, " + JournalEntryRow.PREVIEW_LENGTH + ") AS preview" +
+            " FROM journal_entries_fts" +
+            " JOIN journal_entries AS e ON e.entryId = journal_entries_fts.rowid" +
+            " WHERE journal_entries_fts MATCH :ftsQuery" +
+            " AND e.userId = :userId" +
+            " AND (:emotion IS NULL OR e.emotion = :emotion)" +
+            " AND e.createdAtEpochMs BETWEEN :fromEpochMs AND :toEpochMs" +
+            " ORDER BY " + FTS_HITS + " DESC, e.createdAtEpochMs DESC")
+    PagingSource<Integer, JournalEntryRow> searchRows(String userId, String ftsQuery,
+                                                      String emotion,
+                                                      long fromEpochMs, long toEpochMs);
+
+    // Filter-only variant used when the search box is empty but an emotion
+    // or date filter is set. Served by the (userId, createdAtEpochMs) index.
+    @Query("SELECT " + ROW_COLUMNS + " FROM journal_entries" +
+            " WHERE userId = :userId" +
+            " AND (:emotion IS NULL OR emotion = :emotion)" +
+            " AND createdAtEpochMs BETWEEN :fromEpochMs AND :toEpochMs" +
+            " ORDER BY createdAtEpochMs DESC, entryId DESC")
+    PagingSource<Integer, JournalEntryRow> filterRows(String userId, String emotion,
+                                                      long fromEpochMs, long toEpochMs);
+
     // Fetch a single entry by Room primary key.
     @Query("SELECT * FROM journal_entries WHERE entryId = :entryId LIMIT 1")
     JournalEntryEntity findById(long entryId);
 
-    // Used after Firestore confirms success — flips syncedToFirebase to true.
+    // Used by updateEntry() to persist an edit.
     @Update
     int update(JournalEntryEntity entry);
 
-    // Used by SyncJournalWorker.
-    // IMPORTANT: scoped by userId so only the currently logged-in user's
-    // entries are retried. Without this filter, the worker would attempt
-    // to push other users' entries and Firestore would reject them.
-    @Query("SELECT * FROM journal_entries" +
-            " WHERE syncedToFirebase = 0 AND userId = :userId")
-    List<JournalEntryEntity> findUnsyncedEntries(String userId);
+    // Used after Firestore confirms a committed WriteBatch. Touches only the
+    // sync columns, so a late acknowledgement can never overwrite newer
+    // content with a stale copy of the entity. 'pushedHash' is the
+    // version the batch actually wrote, which the row may have moved past
+    // while the batch was in flight. syncedContentHash always records it —
+    // it is what Firestore now holds. syncedToFirebase is only set when the
+    // row still has that content and no newer op is queued, so call this
+    // after the batch's outbox rows are deleted.
+    @Query("UPDATE journal_entries SET syncedContentHash = :pushedHash," +
+            " syncedToFirebase = CASE WHEN contentHash IS :pushedHash" +
+            " AND firestoreId NOT IN (SELECT firestoreId FROM journal_outbox)" +
+            " THEN 1 ELSE 0 END" +
+            " WHERE firestoreId = :firestoreId")
+    void markPushed(String firestoreId, String pushedHash);
+
+    // For ops acknowledged without a write because Firestore already holds
+    // the row's content. Leaves syncedContentHash alone — a push acknowledged
+    // in the meantime knows better — and only flags rows still matching it.
+    @Query("UPDATE journal_entries SET syncedToFirebase = 1" +
+            " WHERE firestoreId IN (:firestoreIds) AND contentHash IS syncedContentHash" +
+            " AND firestoreId NOT IN (SELECT firestoreId FROM journal_outbox)")
+    void markSyncedIfUnchanged(Collection<String> firestoreIds);
 
     // Used during Firestore restore to prevent duplicate entries.
     // Before inserting a document from Firestore, check if its firestoreId
@@ -53,6 +136,117 @@ public interface JournalEntryDao {
     @Query("DELETE FROM journal_entries WHERE userId = :userId")
     void deleteAllByUser(String userId);
 
+    // ── Bulk operations for restoreFromFirestore() ──────────────────
+
+    // SQLite on older devices caps bound variables at 999 per statement,
+    // so IN (...) deletes are issued in chunks of this size.
+    int SQL_VARIABLE_CHUNK = 500;
+
+    // Loads the entries behind one outbox batch in a single query.
+    @Query("SELECT * FROM journal_entries WHERE firestoreId IN (:firestoreIds)")
+    List<JournalEntryEntity> findByFirestoreIds(Collection<String> firestoreIds);
 
+    @Insert
+    void insertAll(List<JournalEntryEntity> entries);
+
+    @Update
+    int updateAll(List<JournalEntryEntity> entries);
+
+    @Query("DELETE FROM journal_entries WHERE firestoreId IN (:firestoreIds)")
+    int deleteByFirestoreIds(Collection<String> firestoreIds);
+
+    // Remote deletes for incremental restore — rows with a pending local
+    // edit are kept so the outbox can push them back.
+    @Query("DELETE FROM journal_entries" +
+            " WHERE firestoreId IN (:firestoreIds) AND syncedToFirebase = 1")
+    int deleteSyncedByFirestoreIds(Collection<String> firestoreIds);
+
+    // Documents this device deleted locally but Firestore has not confirmed yet.
+    @Query("SELECT firestoreId FROM journal_outbox WHERE userId = :userId AND op = 'delete'")
+    List<String> getPendingDeleteIds(String userId);
+
+    // Synced local rows whose createdAtEpochMs falls in [from, to) — the
+    // deletion candidates for one page of a streamed full restore.
+    // Served by the (userId, createdAtEpochMs) index.
+    @Query("SELECT firestoreId FROM journal_entries" +
+            " WHERE userId = :userId AND syncedToFirebase = 1 AND firestoreId IS NOT NULL" +
+            " AND createdAtEpochMs >= :fromEpochMs AND createdAtEpochMs < :toEpochMs")
+    List<String> getSyncedFirestoreIdsInRange(String userId, long fromEpochMs, long toEpochMs);
+
+    // Reconciles deletions for one page of a full restore ordered by
+    // createdAtEpochMs: every synced local row in [from, to) that Firestore
+    // did not return ('present') was deleted on another device. Only this
+    // page's slice of history is ever loaded, so memory stays bounded.
+    @Transaction
+    default int deleteSyncedMissingInRange(String userId, long fromEpochMs, long toEpochMs,
+                                           Set<String> present) {
+        List<String> deletes = new ArrayList<>();
+        for (String id : getSyncedFirestoreIdsInRange(userId, fromEpochMs, toEpochMs)) {
+            if (!present.contains(id)) deletes.add(id);
+        }
+        for (int i = 0; i < deletes.size(); i += SQL_VARIABLE_CHUNK) {
+            deleteByFirestoreIds(
+                    deletes.subList(i, Math.min(i + SQL_VARIABLE_CHUNK, deletes.size())));
+        }
+        return deletes.size();
+    }
+
+    // Applies one batch of remote documents in ONE transaction — rows
+    // missing from 'changed' are left alone (see deleteSyncedMissingInRange()).
+    //   - changed rows missing locally       → insertAll
+    //   - changed rows whose content differs → updateAll
+    //   - removedIds (remote tombstones)     → deleteSyncedByFirestoreIds
+    // Rows still waiting to be pushed (syncedToFirebase = false) are neither
+    // deleted nor overwritten — the outbox will push the local version — and
+    // documents with a pending local delete are not resurrected.
+    // Each element of 'changed' must carry firestoreId, emotion,
+    // description, createdAtEpochMs and contentHash. Rows are compared
+    // by contentHash only.
+    @Transaction
+    default void applyRemoteChanges(String userId, List<JournalEntryEntity> changed,
+                                    Collection<String> removedIds) {
+        Set<String> pendingDeletes = new HashSet<>(getPendingDeleteIds(userId));
+
+        List<JournalEntryEntity> inserts = new ArrayList<>();
+        List<JournalEntryEntity> updates = new ArrayList<>();
+
+        for (int i = 0; i < changed.size(); i += SQL_VARIABLE_CHUNK) {
+            List<JournalEntryEntity> chunk =
+                    changed.subList(i, Math.min(i + SQL_VARIABLE_CHUNK, changed.size()));
+
+            List<String> ids = new ArrayList<>(chunk.size());
+            for (JournalEntryEntity r : chunk) ids.add(r.firestoreId);
+            Map<String, JournalEntryEntity> local = new HashMap<>();
+            for (JournalEntryEntity e : findByFirestoreIds(ids)) local.put(e.firestoreId, e);
+
+            for (JournalEntryEntity r : chunk) {
+                if (pendingDeletes.contains(r.firestoreId)) continue;
+
+                JournalEntryEntity existing = local.get(r.firestoreId);
+                if (existing == null) {
+                    r.userId            = userId;
+                    r.syncedToFirebase  = true;
+                    r.syncedContentHash = r.contentHash;
+                    inserts.add(r);
+                } else if (existing.syncedToFirebase && !existing.hasSameContent(r)) {
+                    existing.emotion           = r.emotion;
+                    existing.description       = r.description;
+                    existing.contentHash       = r.contentHash;
+                    existing.syncedContentHash = r.contentHash;
+                    existing.updatedAtEpochMs  = r.updatedAtEpochMs;
+                    updates.add(existing);
+                }
+            }
+        }
+
+        if (!inserts.isEmpty()) insertAll(inserts);
+        if (!updates.isEmpty()) updateAll(updates);
+
+        List<String> removed = new ArrayList<>(removedIds);
+        for (int i = 0; i < removed.size(); i += SQL_VARIABLE_CHUNK) {
+            deleteSyncedByFirestoreIds(
+                    removed.subList(i, Math.min(i + SQL_VARIABLE_CHUNK, removed.size())));
+        }
+    }
 
 }
@@ -0,0 +1,54 @@
+package com.example.myapplication.data.local.dao;
+
+import androidx.room.Dao;
+import androidx.room.Insert;
+import androidx.room.Query;
+import androidx.room.Transaction;
+
+import com.example.myapplication.data.local.entity.JournalOutboxEntity;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * DAO for the journal sync outbox.
+ * Writers call enqueue() inside the same transaction as the Room change;
+ * SyncJournalWorker drains getPending() in id order.
+ */
+@Dao
+public interface JournalOutboxDao {
+
+    @Insert
+    long insert(JournalOutboxEntity op);
+
+    // Replaces any pending op for the same document, so a burst of edits
+    // (or an edit followed by a delete) collapses into one remote call.
+    // Returns the new outbox id — needed to acknowledge it later.
+    @Transaction
+    default long enqueue(String userId, String firestoreId, String op) {
+        deleteByFirestoreId(firestoreId);
+        return insert(new JournalOutboxEntity(
+                userId, firestoreId, op, System.currentTimeMillis()));
+    }
+
+    // Oldest first — the order the user made the changes.
+    // Keyset on id, so a drain can walk the whole queue while earlier
+    // batches are still waiting for their acknowledgement.
+    @Query("SELECT * FROM journal_outbox WHERE userId = :userId AND id > :afterId" +
+            " ORDER BY id ASC LIMIT :limit")
+    List<JournalOutboxEntity> getPending(String userId, long afterId, int limit);
+
+    @Query("SELECT COUNT(*) FROM journal_outbox WHERE userId = :userId")
+    int countPending(String userId);
+
+    // Acknowledge a whole committed WriteBatch in one statement.
+    // Callers keep ids under JournalEntryDao.SQL_VARIABLE_CHUNK.
+    @Query("DELETE FROM journal_outbox WHERE id IN (:ids)")
+    void deleteByIds(Collection<Long> ids);
+
+    @Query("DELETE FROM journal_outbox WHERE firestoreId = :firestoreId")
+    void deleteByFirestoreId(String firestoreId);
+
+    @Query("DELETE FROM journal_outbox WHERE userId = :userId")
+    void deleteAllByUser(String userId);
+}
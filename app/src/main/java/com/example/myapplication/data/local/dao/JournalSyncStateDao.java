@@ -0,0 +1,24 @@
+package com.example.myapplication.data.local.dao;
+
+import androidx.room.Dao;
+import androidx.room.Insert;
+import androidx.room.OnConflictStrategy;
+import androidx.room.Query;
+
+import com.example.myapplication.data.local.entity.JournalSyncStateEntity;
+
+@Dao
+public interface JournalSyncStateDao {
+
+    // 0 = never synced on this device → restore does one full reconcile.
+    @Query("SELECT COALESCE(MAX(serverWatermarkMicros), 0) FROM journal_sync_state" +
+            " WHERE userId = :userId")
+    long getWatermark(String userId);
+
+    // Written in the same transaction as the merge it describes.
+    @Insert(onConflict = OnConflictStrategy.REPLACE)
+    void upsert(JournalSyncStateEntity state);
+
+    @Query("DELETE FROM journal_sync_state WHERE userId = :userId")
+    void deleteAllByUser(String userId);
+}
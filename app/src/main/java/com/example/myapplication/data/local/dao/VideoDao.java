@@ -4,10 +4,15 @@ import androidx.room.Dao;
 import androidx.room.Insert;
 import androidx.room.OnConflictStrategy;
 import androidx.room.Query;
+import androidx.room.Transaction;
 
 import com.example.myapplication.data.local.entity.VideoEntity;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 /**
  * DAO for video cache operations.
@@ -26,4 +31,29 @@ public interface VideoDao {
 
     @Query("DELETE FROM videos")   // NEW
     void deleteAll();
+
+    @Insert(onConflict = OnConflictStrategy.REPLACE)
+    void upsertAll(List<VideoEntity> videos);
+
+    @Query("DELETE FROM videos WHERE videoId IN (:videoIds)")
+    void deleteByIds(Collection<String> videoIds);
+
+    /** RemoteListCache.Store#replace for the videos table. */
+    @Transaction
+    default boolean applyDiff(List<VideoEntity> fresh) {
+        Map<String, VideoEntity> cached = new HashMap<>();
+        for (VideoEntity v : getAllVideos()) cached.put(v.videoId, v);
+
+        List<VideoEntity> upserts = new ArrayList<>();
+        for (VideoEntity v : fresh) {
+            VideoEntity old = cached.remove(v.videoId);
+            if (old == null || !old.sameContentAs(v)) upserts.add(v);
+        }
+        // Whatever is left in 'cached' is gone remotely.
+        if (upserts.isEmpty() && cached.isEmpty()) return false;
+
+        if (!upserts.isEmpty()) upsertAll(upserts);
+        if (!cached.isEmpty())  deleteByIds(cached.keySet());
+        return true;
+    }
 }
@@ -0,0 +1,28 @@
+package com.example.myapplication.data.local.entity;
+
+import androidx.annotation.NonNull;
+import androidx.room.Entity;
+import androidx.room.PrimaryKey;
+
+/**
+ * Room entity representing a Hope screen image cached from Firebase.
+ * The url is the image's download URL from /hope_images.
+ */
+@Entity(tableName = "hope_images")
+public class HopeImageEntity {
+
+    @PrimaryKey
+    @NonNull
+    public String url;
+    public int order;
+
+    public HopeImageEntity(@NonNull String url, int order) {
+        this.url = url;
+        this.order = order;
+    }
+
+    /** Field-by-field comparison used by HopeImageDao.applyDiff(). */
+    public boolean sameContentAs(HopeImageEntity other) {
+        return url.equals(other.url) && order == other.order;
+    }
+}
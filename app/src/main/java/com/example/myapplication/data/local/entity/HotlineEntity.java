@@ -4,6 +4,8 @@ import androidx.annotation.NonNull;
 import androidx.room.Entity;
 import androidx.room.PrimaryKey;
 
+import java.util.Objects;
+
 @Entity(tableName = "hotlines")
 public class HotlineEntity {
 
@@ -24,4 +26,13 @@ public class HotlineEntity {
         this.facebookUrl = facebookUrl;
         this.order       = order;
     }
+
+    /** Field-by-field comparison used by HotlineDao.applyDiff(). */
+    public boolean sameContentAs(HotlineEntity other) {
+        return phone.equals(other.phone)
+                && Objects.equals(name, other.name)
+                && Objects.equals(email, other.email)
+                && Objects.equals(facebookUrl, other.facebookUrl)
+                && order == other.order;
+    }
 }
@@ -1,14 +1,26 @@
 package com.example.myapplication.data.local.entity;
 
+import androidx.room.ColumnInfo;
 import androidx.room.Entity;
+import androidx.room.Ignore;
 import androidx.room.Index;
 import androidx.room.PrimaryKey;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Objects;
+
 @Entity(
         tableName = "journal_entries",
         indices = {
-                @Index(value = {"userId"}),
-                @Index(value = {"createdAtEpochMs"}),
+                // Composite index for the main list query: filter on userId,
+                // then walk createdAtEpochMs in order. entryId is the rowid, which
+                // SQLite appends to every index, so the keyset tie-break is covered
+                // too and ORDER BY needs no temp B-tree sort. Not a covering index:
+                // the row projection's other columns come from one rowid lookup per
+                // returned row, which keeps the index small (no description text).
+                @Index(value = {"userId", "createdAtEpochMs"}),
                 @Index(value = {"firestoreId"})   // speeds up duplicate-check on restore
         }
 )
@@ -38,19 +50,82 @@ public class JournalEntryEntity {
     // display (formatted as readable date in Realization screen).
     public long createdAtEpochMs;
 
+    // Last time the content changed, on any device. Mirrored in the Firestore
+    // document so restore can fetch only documents newer than its watermark
+    // (see JournalSyncStateEntity).
+    @ColumnInfo(defaultValue = "0")
+    public long updatedAtEpochMs;
+
+    // ── Change detection ─────────────────────────────────────────────
+    // SHA-256 (hex) of emotion + description. Computed only when content is
+    // written locally (the hashing constructor / setContent()) and mirrored
+    // in the Firestore document, so sync compares 64 characters instead of
+    // two full texts. Rows read back from Room take it from the column.
+    public String contentHash;
+
+    // contentHash of the version Firestore last acknowledged or we restored.
+    // Equal to contentHash → pushing would not change the remote document.
+    public String syncedContentHash;
+
     // ── Sync state ───────────────────────────────────────────────────
     // false = not yet pushed to Firestore (pending upload)
     // true  = successfully backed up to Firestore
     public boolean syncedToFirebase = false;
 
-    // Constructor — syncedToFirebase and firestoreId are set separately
-    // in the repository after UUID generation.
-    public JournalEntryEntity(String userId, String emotion,
-                              String description, long createdAtEpochMs) {
+    // Constructor Room uses for every row it reads — takes the stored hash,
+    // so lists, pages and searches never re-hash content.
+    public JournalEntryEntity(String userId, String emotion, String description,
+                              long createdAtEpochMs, String contentHash) {
         this.userId           = userId;
         this.emotion          = emotion;
         this.description      = description;
         this.createdAtEpochMs = createdAtEpochMs;
+        this.updatedAtEpochMs = createdAtEpochMs;
+        this.contentHash      = contentHash;
         this.syncedToFirebase = false;
     }
+
+    // Constructor for new content — syncedToFirebase and firestoreId are set
+    // separately in the repository after UUID generation.
+    @Ignore
+    public JournalEntryEntity(String userId, String emotion,
+                              String description, long createdAtEpochMs) {
+        this(userId, emotion, description, createdAtEpochMs,
+             hashContent(emotion, description));
+    }
+
+    // Sets the user-visible content and keeps contentHash in step.
+    public void setContent(String emotion, String description) {
+        this.emotion     = emotion;
+        this.description = description;
+        this.contentHash = hashContent(emotion, description);
+    }
+
+    // True when the content hashes match — used by restore to decide
+    // whether a remote document actually changes this row.
+    public boolean hasSameContent(JournalEntryEntity other) {
+        return Objects.equals(contentHash, other.contentHash);
+    }
+
+    private static final char[] HEX = "0123456789abcdef".toCharArray();
+
+    // Stable across devices and app versions: UTF-8, fields separated by a
+    // unit separator so ("ab", "c") and ("a", "bc") never collide.
+    public static String hashContent(String emotion, String description) {
+        try {
+            MessageDigest md = MessageDigest.getInstance("SHA-256");
+            md.update((emotion != null ? emotion : "").getBytes(StandardCharsets.UTF_8));
+            md.update((byte) 0x1F);
+            md.update((description != null ? description : "").getBytes(StandardCharsets.UTF_8));
+            byte[] digest = md.digest();
+            char[] hex = new char[digest.length * 2];
+            for (int i = 0; i < digest.length; i++) {
+                hex[2 * i]     = HEX[(digest[i] >> 4) & 0xF];
+                hex[2 * i + 1] = HEX[digest[i] & 0xF];
+            }
+            return new String(hex);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 unavailable", e);   // mandated on Android
+        }
+    }
 }
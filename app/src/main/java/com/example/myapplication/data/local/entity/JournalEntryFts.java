@@ -0,0 +1,17 @@
+package com.example.myapplication.data.local.entity;
+
+import androidx.room.Entity;
+import androidx.room.Fts4;
+
+/**
+ * FTS4 index over journal_entries (description, emotion).
+ * External-content table: text lives only in journal_entries, and Room's
+ * generated triggers keep this index in sync on every insert/update/delete.
+ * Its rowid equals JournalEntryEntity.entryId.
+ */
+@Fts4(contentEntity = JournalEntryEntity.class)
+@Entity(tableName = "journal_entries_fts")
+public class JournalEntryFts {
+    public String description;
+    public String emotion;
+}
@@ -0,0 +1,19 @@
+package com.example.myapplication.data.local.entity;
+
+/**
+ * Lightweight projection of a journal entry for list screens.
+ * Carries only what a list row displays — the description is truncated
+ * to a short preview in SQL, so long entries are never loaded in full.
+ */
+public class JournalEntryRow {
+
+    // Max characters of description kept in the preview.
+    // The row shows two lines, so this is plenty.
+    public static final int PREVIEW_LENGTH = 140;
+
+    public long    entryId;
+    public String  emotion;
+    public long    createdAtEpochMs;
+    public String  preview;
+    public boolean syncedToFirebase;
+}
@@ -0,0 +1,49 @@
+package com.example.myapplication.data.local.entity;
+
+import androidx.annotation.NonNull;
+import androidx.room.Entity;
+import androidx.room.Index;
+import androidx.room.PrimaryKey;
+
+/**
+ * One pending Firestore operation for a journal entry.
+ * Rows are written in the same Room transaction as the local change and
+ * removed once Firestore acknowledges them. The auto-increment id gives
+ * the replay order. At most one row exists per firestoreId — a newer
+ * change replaces the older one (see JournalOutboxDao.enqueue()).
+ */
+@Entity(
+        tableName = "journal_outbox",
+        indices = {
+                @Index(value = {"userId"}),        // drain query: WHERE userId ORDER BY id
+                @Index(value = {"firestoreId"})    // coalescing + ack lookups
+        }
+)
+public class JournalOutboxEntity {
+
+    public static final String OP_UPSERT = "upsert";
+    public static final String OP_DELETE = "delete";
+
+    @PrimaryKey(autoGenerate = true)
+    public long id;
+
+    @NonNull
+    public String userId;
+
+    @NonNull
+    public String firestoreId;
+
+    // OP_UPSERT — push the current Room row; OP_DELETE — delete the document.
+    @NonNull
+    public String op;
+
+    public long enqueuedAtEpochMs;
+
+    public JournalOutboxEntity(@NonNull String userId, @NonNull String firestoreId,
+                               @NonNull String op, long enqueuedAtEpochMs) {
+        this.userId            = userId;
+        this.firestoreId       = firestoreId;
+        this.op                = op;
+        this.enqueuedAtEpochMs = enqueuedAtEpochMs;
+    }
+}
@@ -0,0 +1,27 @@
+package com.example.myapplication.data.local.entity;
+
+import androidx.annotation.NonNull;
+import androidx.room.Entity;
+import androidx.room.PrimaryKey;
+
+/**
+ * Per-user restore watermark: the highest server commit time
+ * (RemoteEntry.serverUpdatedAtMicros) this device has already merged into
+ * Room. Server clock only — device clocks can run fast or slow. Lives in Room (not SharedPreferences)
+ * so it is wiped together with journal_entries and can never claim rows
+ * that are no longer on disk.
+ */
+@Entity(tableName = "journal_sync_state")
+public class JournalSyncStateEntity {
+
+    @PrimaryKey
+    @NonNull
+    public String userId;
+
+    public long serverWatermarkMicros;
+
+    public JournalSyncStateEntity(@NonNull String userId, long serverWatermarkMicros) {
+        this.userId                = userId;
+        this.serverWatermarkMicros = serverWatermarkMicros;
+    }
+}
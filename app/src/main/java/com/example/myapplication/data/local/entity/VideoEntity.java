@@ -4,6 +4,8 @@ import androidx.annotation.NonNull;
 import androidx.room.Entity;
 import androidx.room.PrimaryKey;
 
+import java.util.Objects;
+
 /**
  * Room entity representing a video cached from Firebase.
  * The videoId is the YouTube video ID (e.g., "tX8TgVR33KM").
@@ -25,4 +27,12 @@ public class VideoEntity {
         this.order = order;
     }
 
+    /** Field-by-field comparison used by VideoDao.applyDiff(). */
+    public boolean sameContentAs(VideoEntity other) {
+        return videoId.equals(other.videoId)
+                && Objects.equals(title, other.title)
+                && Objects.equals(thumbnailUrl, other.thumbnailUrl)
+                && order == other.order;
+    }
+
 }
\ No newline at end of file
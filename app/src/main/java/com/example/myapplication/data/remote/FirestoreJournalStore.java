@@ -0,0 +1,234 @@
+package com.example.myapplication.data.remote;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import com.google.android.gms.tasks.Task;
+import com.google.android.gms.tasks.Tasks;
+import com.google.firebase.Timestamp;
+import com.google.firebase.firestore.CollectionReference;
+import com.google.firebase.firestore.DocumentChange;
+import com.google.firebase.firestore.DocumentSnapshot;
+import com.google.firebase.firestore.FieldPath;
+import com.google.firebase.firestore.FieldValue;
+import com.google.firebase.firestore.FirebaseFirestore;
+import com.google.firebase.firestore.ListenerRegistration;
+import com.google.firebase.firestore.Query;
+import com.google.firebase.firestore.Source;
+import com.google.firebase.firestore.WriteBatch;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * RemoteJournalStore backed by Cloud Firestore.
+ *
+ * Path: journal_entries/{userId}/entries/{firestoreId}
+ *
+ * journal_entries  = top-level collection
+ * {userId}         = document that namespaces one user's data
+ *                    (Firebase Auth UID — matches security rule)
+ * entries          = sub-collection holding all this user's entries
+ * {firestoreId}    = individual entry document (UUID — globally unique)
+ */
+public class FirestoreJournalStore implements RemoteJournalStore {
+
+    // Document field names.
+    static final String FIELD_ID          = "firestoreId";
+    static final String FIELD_EMOTION     = "emotion";
+    static final String FIELD_DESCRIPTION = "description";
+    static final String FIELD_CREATED_AT  = "createdAtEpochMs";
+    static final String FIELD_UPDATED_AT  = "updatedAtEpochMs";
+    static final String FIELD_HASH        = "contentHash";
+    static final String FIELD_DELETED     = "deleted";
+    // Server-assigned commit time (FieldValue.serverTimestamp()) — the only
+    // field incremental restores and live sync filter on.
+    static final String FIELD_SERVER_UPDATED_AT = "serverUpdatedAt";
+
+    private CollectionReference entriesRef(String userId) {
+        return FirebaseFirestore.getInstance()
+                .collection("journal_entries")
+                .document(userId)
+                .collection("entries");
+    }
+
+    // ── Writes ───────────────────────────────────────────────────────
+    // One document → a plain set(); more → one atomic WriteBatch.
+    @Override
+    public Task<Void> commit(@NonNull String userId, @NonNull List<RemoteEntry> entries) {
+        CollectionReference ref = entriesRef(userId);
+        if (entries.size() == 1) {
+            RemoteEntry e = entries.get(0);
+            return ref.document(e.firestoreId).set(toDocument(e));
+        }
+        WriteBatch batch = FirebaseFirestore.getInstance().batch();
+        for (RemoteEntry e : entries) {
+            batch.set(ref.document(e.firestoreId), toDocument(e));
+        }
+        return batch.commit();
+    }
+
+    // ── Reads ────────────────────────────────────────────────────────
+    // Ordered by (field, document id) so startAfter() is exact even when
+    // many documents share a timestamp. Both orders are served by
+    // Firestore's automatic single-field indexes.
+    @Override
+    public Task<Page> fetchPage(@NonNull String userId, @NonNull PageRequest request) {
+        Query query;
+        if (request.order == Order.CREATED_AT) {
+            // orderBy() skips documents without the field — i.e. tombstones.
+            query = entriesRef(userId)
+                    .orderBy(FIELD_CREATED_AT)
+                    .orderBy(FieldPath.documentId());
+            if (request.after != null) {
+                query = query.startAfter(request.after.createdAtEpochMs,
+                                         request.after.firestoreId);
+            }
+        } else {
+            // Micros round-trip exactly through Timestamp, so the cursor never
+            // lands before the document it came from.
+            query = entriesRef(userId)
+                    .whereGreaterThan(FIELD_SERVER_UPDATED_AT, toTimestamp(request.updatedAfter))
+                    .orderBy(FIELD_SERVER_UPDATED_AT)
+                    .orderBy(FieldPath.documentId());
+            if (request.after != null) {
+                query = query.startAfter(toTimestamp(request.after.serverUpdatedAtMicros),
+                                         request.after.firestoreId);
+            }
+        }
+
+        return query.limit(request.limit)
+                .get(Source.SERVER)
+                .continueWith(task -> {
+                    List<DocumentSnapshot> docs = task.getResult().getDocuments();
+                    List<RemoteEntry> entries = new ArrayList<>(docs.size());
+                    for (DocumentSnapshot doc : docs) {
+                        RemoteEntry e = fromDocument(doc);
+                        if (e != null) entries.add(e);
+                    }
+                    RemoteEntry last = docs.isEmpty()
+                            ? null : cursorOf(docs.get(docs.size() - 1));
+                    // A full page means there may be more; an empty follow-up
+                    // fetch is the price of not counting up front.
+                    return new Page(entries, last, docs.size() == request.limit);
+                });
+    }
+
+    // ── Live changes ─────────────────────────────────────────────────
+    @Override
+    public Subscription listen(@NonNull String userId, long sinceServerMicros,
+                               @NonNull ChangeListener listener) {
+        Query query = sinceServerMicros <= 0
+                ? entriesRef(userId)
+                : entriesRef(userId).whereGreaterThan(FIELD_SERVER_UPDATED_AT,
+                                                      toTimestamp(sinceServerMicros));
+
+        ListenerRegistration registration = query.addSnapshotListener((snapshot, error) -> {
+            if (error != null) {
+                listener.onError(error);
+                return;
+            }
+            if (snapshot == null) return;
+
+            List<RemoteEntry> changed = new ArrayList<>();
+            List<String> removed = new ArrayList<>();
+            for (DocumentChange dc : snapshot.getDocumentChanges()) {
+                DocumentSnapshot doc = dc.getDocument();
+                // Our own not-yet-acknowledged writes echo back here; the outbox owns those.
+                if (doc.getMetadata().hasPendingWrites()) continue;
+
+                if (dc.getType() == DocumentChange.Type.REMOVED) {
+                    removed.add(doc.getId());
+                    continue;
+                }
+                RemoteEntry e = fromDocument(doc);
+                if (e != null) changed.add(e);
+            }
+            if (changed.isEmpty() && removed.isEmpty()) return;
+            listener.onChanges(changed, removed, !snapshot.getMetadata().isFromCache());
+        });
+        return registration::remove;
+    }
+
+    // ── Backfill ─────────────────────────────────────────────────────
+    // update() only touches the stamp, so a concurrent edit from another
+    // device is never overwritten with the copy this device just read.
+    @Override
+    public Task<Void> stampServerTime(@NonNull String userId,
+                                      @NonNull List<String> firestoreIds) {
+        if (firestoreIds.isEmpty()) return Tasks.forResult(null);
+        CollectionReference ref = entriesRef(userId);
+        WriteBatch batch = FirebaseFirestore.getInstance().batch();
+        for (String id : firestoreIds) {
+            batch.update(ref.document(id), FIELD_SERVER_UPDATED_AT, FieldValue.serverTimestamp());
+        }
+        return batch.commit();
+    }
+
+    // ── Mapping ──────────────────────────────────────────────────────
+
+    // We include firestoreId inside the document so it is readable
+    // when pulling entries back down to a new device.
+    // A delete is written as a tombstone instead of removing the document,
+    // so incremental restores on other devices (which only see documents
+    // newer than their watermark) still learn about it.
+    private static Map<String, Object> toDocument(RemoteEntry e) {
+        Map<String, Object> data = new HashMap<>();
+        data.put(FIELD_ID,         e.firestoreId);
+        data.put(FIELD_UPDATED_AT, e.updatedAtEpochMs);
+        data.put(FIELD_SERVER_UPDATED_AT, FieldValue.serverTimestamp());
+        if (e.deleted) {
+            data.put(FIELD_DELETED, true);
+            return data;
+        }
+        data.put(FIELD_EMOTION,     e.emotion);
+        data.put(FIELD_DESCRIPTION, e.description);
+        data.put(FIELD_CREATED_AT,  e.createdAtEpochMs);
+        data.put(FIELD_HASH,        e.contentHash);
+        return data;
+    }
+
+    // Just the ordering fields of a document, for startAfter().
+    private static RemoteEntry cursorOf(DocumentSnapshot doc) {
+        Long createdAt = doc.getLong(FIELD_CREATED_AT);
+        Long updatedAt = doc.getLong(FIELD_UPDATED_AT);
+        return new RemoteEntry(doc.getId(), null, null,
+                createdAt != null ? createdAt : 0L,
+                updatedAt != null ? updatedAt : 0L, null, false, serverMicros(doc));
+    }
+
+    // 0 when the document predates FIELD_SERVER_UPDATED_AT (or, for our own
+    // unacknowledged writes, while the stamp is still pending).
+    private static long serverMicros(DocumentSnapshot doc) {
+        Timestamp t = doc.getTimestamp(FIELD_SERVER_UPDATED_AT);
+        return t == null ? 0L : t.getSeconds() * 1_000_000L + t.getNanoseconds() / 1_000;
+    }
+
+    private static Timestamp toTimestamp(long micros) {
+        return new Timestamp(micros / 1_000_000L, (int) (micros % 1_000_000L) * 1_000);
+    }
+
+    // Returns null for documents missing required fields. Documents written
+    // before updatedAtEpochMs existed fall back to their creation time.
+    @Nullable
+    private static RemoteEntry fromDocument(DocumentSnapshot doc) {
+        Long updatedAt = doc.getLong(FIELD_UPDATED_AT);
+        if (Boolean.TRUE.equals(doc.getBoolean(FIELD_DELETED))) {
+            return RemoteEntry.tombstone(doc.getId(), updatedAt != null ? updatedAt : 0L)
+                    .withServerTime(serverMicros(doc));
+        }
+
+        String firestoreId = doc.getString(FIELD_ID);
+        String emotion     = doc.getString(FIELD_EMOTION);
+        String description = doc.getString(FIELD_DESCRIPTION);
+        Long   createdAt   = doc.getLong(FIELD_CREATED_AT);
+        if (firestoreId == null || emotion == null || description == null || createdAt == null) {
+            return null;
+        }
+        return new RemoteEntry(firestoreId, emotion, description, createdAt,
+                updatedAt != null ? updatedAt : createdAt,
+                doc.getString(FIELD_HASH), false, serverMicros(doc));
+    }
+}
@@ -0,0 +1,85 @@
+package com.example.myapplication.data.remote;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import com.example.myapplication.data.local.entity.JournalEntryEntity;
+
+/**
+ * One journal document as stored remotely — a live entry or a tombstone.
+ * Backend-neutral, so JournalRepository never touches Firestore types and
+ * any RemoteJournalStore (Firestore, in-memory) can carry it.
+ */
+public final class RemoteEntry {
+
+    @NonNull public final String firestoreId;
+    @Nullable public final String emotion;
+    @Nullable public final String description;
+    public final long createdAtEpochMs;
+    // Writer's clock — kept for display and merging, never for watermarks.
+    public final long updatedAtEpochMs;
+    @Nullable public final String contentHash;
+
+    // When the store committed this version, by the server's clock, in
+    // microseconds (Firestore's serverTimestamp precision). Assigned by the
+    // store, so it is ignored on writes. 0 = not stamped: a document written
+    // before the field existed (see RemoteJournalStore.stampServerTime()).
+    public final long serverUpdatedAtMicros;
+
+    // Tombstone: the entry was deleted. Only firestoreId and updatedAtEpochMs
+    // are meaningful; tombstones never appear in CREATED_AT pages.
+    public final boolean deleted;
+
+    public RemoteEntry(@NonNull String firestoreId, @Nullable String emotion,
+                       @Nullable String description, long createdAtEpochMs,
+                       long updatedAtEpochMs, @Nullable String contentHash,
+                       boolean deleted) {
+        this(firestoreId, emotion, description, createdAtEpochMs, updatedAtEpochMs,
+             contentHash, deleted, 0L);
+    }
+
+    public RemoteEntry(@NonNull String firestoreId, @Nullable String emotion,
+                       @Nullable String description, long createdAtEpochMs,
+                       long updatedAtEpochMs, @Nullable String contentHash,
+                       boolean deleted, long serverUpdatedAtMicros) {
+        this.firestoreId           = firestoreId;
+        this.emotion               = emotion;
+        this.description           = description;
+        this.createdAtEpochMs      = createdAtEpochMs;
+        this.updatedAtEpochMs      = updatedAtEpochMs;
+        this.contentHash           = contentHash;
+        this.deleted               = deleted;
+        this.serverUpdatedAtMicros = serverUpdatedAtMicros;
+    }
+
+    // Copy as read back from a store that stamped it at 'micros'.
+    public RemoteEntry withServerTime(long micros) {
+        return new RemoteEntry(firestoreId, emotion, description, createdAtEpochMs,
+                updatedAtEpochMs, contentHash, deleted, micros);
+    }
+
+    public static RemoteEntry of(@NonNull JournalEntryEntity e) {
+        return new RemoteEntry(e.firestoreId, e.emotion, e.description,
+                e.createdAtEpochMs, e.updatedAtEpochMs, e.contentHash, false);
+    }
+
+    public static RemoteEntry tombstone(@NonNull String firestoreId, long deletedAtEpochMs) {
+        return new RemoteEntry(firestoreId, null, null, 0L, deletedAtEpochMs, null, true);
+    }
+
+    // Builds a Room row for a live entry, or null for tombstones and
+    // documents missing required fields.
+    @Nullable
+    public JournalEntryEntity toEntity(@NonNull String userId) {
+        if (deleted || emotion == null || description == null) return null;
+        // Trust the writer's hash when present, so comparisons match byte for byte
+        // what the other device computed; only older documents are hashed here.
+        JournalEntryEntity e = contentHash != null
+                ? new JournalEntryEntity(userId, emotion, description,
+                                         createdAtEpochMs, contentHash)
+                : new JournalEntryEntity(userId, emotion, description, createdAtEpochMs);
+        e.firestoreId      = firestoreId;
+        e.updatedAtEpochMs = updatedAtEpochMs;
+        return e;
+    }
+}
@@ -0,0 +1,104 @@
+package com.example.myapplication.data.remote;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import com.google.android.gms.tasks.Task;
+
+import java.util.List;
+
+/**
+ * Remote side of journal sync, as seen by JournalRepository.
+ * FirestoreJournalStore is the production implementation; the
+ * JVM tests supply an in-memory one, so the same sync code runs
+ * without a backend. Tasks may complete on any thread.
+ */
+public interface RemoteJournalStore {
+
+    // Most writes a single commit() may carry (Firestore's WriteBatch limit).
+    int MAX_BATCH_WRITES = 500;
+
+    // Writes every entry (live or tombstone) atomically, replacing
+    // whatever document each firestoreId had.
+    Task<Void> commit(@NonNull String userId, @NonNull List<RemoteEntry> entries);
+
+    // Reads one page. The store may return fewer than request.limit entries;
+    // Page.hasMore says whether another fetch can follow. Always reads the
+    // server copy, never a possibly partial offline cache.
+    Task<Page> fetchPage(@NonNull String userId, @NonNull PageRequest request);
+
+    // Streams changes to entries committed after sinceServerMicros (server
+    // clock, 0 = all), starting with the current matching set. Remove the
+    // subscription to stop.
+    Subscription listen(@NonNull String userId, long sinceServerMicros,
+                        @NonNull ChangeListener listener);
+
+    // Backfill for documents written before serverUpdatedAtMicros existed:
+    // stamps each one with the current server time, content untouched, so
+    // SERVER_UPDATED_AT queries can see it from now on. Fails as a whole if
+    // any document no longer exists.
+    Task<Void> stampServerTime(@NonNull String userId, @NonNull List<String> firestoreIds);
+
+    // ── Paging ───────────────────────────────────────────────────────
+
+    enum Order {
+        // Live entries only, by (createdAtEpochMs, firestoreId) — full reconcile.
+        CREATED_AT,
+        // Live entries and tombstones with serverUpdatedAtMicros > updatedAfter,
+        // by (serverUpdatedAtMicros, firestoreId) — incremental restore.
+        // Server clock only: a device with a fast clock cannot push the
+        // watermark past other devices' later writes. Unstamped documents
+        // never match.
+        SERVER_UPDATED_AT
+    }
+
+    final class PageRequest {
+        @NonNull public final Order order;
+        public final long updatedAfter;          // SERVER_UPDATED_AT only, server micros
+        @Nullable public final RemoteEntry after; // last entry of the previous page
+        public final int limit;
+
+        public PageRequest(@NonNull Order order, long updatedAfter,
+                           @Nullable RemoteEntry after, int limit) {
+            this.order        = order;
+            this.updatedAfter = updatedAfter;
+            this.after        = after;
+            this.limit        = limit;
+        }
+
+        public PageRequest next(@NonNull RemoteEntry last) {
+            return new PageRequest(order, updatedAfter, last, limit);
+        }
+    }
+
+    final class Page {
+        @NonNull public final List<RemoteEntry> entries;
+        // Position of the last document read (even one dropped as malformed),
+        // for PageRequest.next(). Null on an empty page.
+        @Nullable public final RemoteEntry last;
+        public final boolean hasMore;
+
+        public Page(@NonNull List<RemoteEntry> entries, @Nullable RemoteEntry last,
+                    boolean hasMore) {
+            this.entries = entries;
+            this.last    = last;
+            this.hasMore = hasMore;
+        }
+    }
+
+    // ── Live changes ─────────────────────────────────────────────────
+
+    interface ChangeListener {
+        // changed: added/modified entries, tombstones included.
+        // removedIds: documents that left the result set entirely.
+        // fromServer: false when the batch may come from a partial cache.
+        void onChanges(@NonNull List<RemoteEntry> changed,
+                       @NonNull List<String> removedIds, boolean fromServer);
+
+        void onError(@NonNull Exception e);
+    }
+
+    interface Subscription {
+        void remove();
+    }
+}
@@ -1,91 +1,93 @@
 package com.example.myapplication.data.repository;
 
+import android.content.Context;
+
 import androidx.lifecycle.LiveData;
-import androidx.lifecycle.MutableLiveData;
+import androidx.lifecycle.Transformations;
+
+import com.example.myapplication.data.local.AppDatabase;
+import com.example.myapplication.data.local.dao.HopeImageDao;
+import com.example.myapplication.data.local.entity.HopeImageEntity;
+import com.example.myapplication.util.ImagePrefetchWorker;
 
 import com.google.firebase.database.DataSnapshot;
-import com.google.firebase.database.DatabaseError;
-import com.google.firebase.database.DatabaseReference;
-import com.google.firebase.database.FirebaseDatabase;
-import com.google.firebase.database.ValueEventListener;
 
 import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.List;
+import java.util.concurrent.TimeUnit;
 
 /**
  * Fetches hope screen image URLs from Firebase Realtime Database.
- * Uses a persistent ValueEventListener so the UI updates automatically
- * whenever the data changes in the Firebase console.
+ * Goes through RemoteListCache like the video and hotline lists: URLs
+ * cached in Room (hope_images) are served first, so the first image is a
+ * local read even offline, and /hope_images is only re-read once TTL_MS
+ * has passed. While revalidating, the listener stays attached so edits in
+ * the Firebase console still show up live. One instance per process; the
+ * listener follows the LiveData's active observers.
  */
 public class HopeRepository {
 
-    // MutableLiveData is writable inside this class only.
-    private final MutableLiveData<List<String>> imageUrls = new MutableLiveData<>();
+    private static final long TTL_MS = TimeUnit.HOURS.toMillis(6);
 
-    // Separate LiveData for surfacing errors to the UI.
-    private final MutableLiveData<String> errorMessage = new MutableLiveData<>();
+    private final RemoteListCache<HopeImageEntity> cache;
+    private final LiveData<List<String>> imageUrls;
 
-    // Reference to the /hope_images node in Realtime Database.
-    private final DatabaseReference hopeRef;
+    private static volatile HopeRepository INSTANCE;
 
-    public HopeRepository() {
-        hopeRef = FirebaseDatabase.getInstance().getReference("hope_images");
-        attachListener();
+    // Process-wide: every ViewModel shares one cache and one listener.
+    public static HopeRepository getInstance(Context context) {
+        if (INSTANCE == null) {
+            synchronized (HopeRepository.class) {
+                if (INSTANCE == null) {
+                    INSTANCE = new HopeRepository(context.getApplicationContext());
+                }
+            }
+        }
+        return INSTANCE;
     }
 
-    /**
-     * Attaches a real-time listener. The callback fires immediately with
-     * current data, and then again whenever the data changes.
-     */
-    private void attachListener() {
-        hopeRef.addValueEventListener(new ValueEventListener() {
-
-            @Override
-            public void onDataChange(DataSnapshot snapshot) {
-                List<ImageEntry> entries = new ArrayList<>();
-
-                // Each child is one image node (image_1, image_2, etc.)
-                for (DataSnapshot child : snapshot.getChildren()) {
-                    String url   = child.child("url").getValue(String.class);
-                    Long   order = child.child("order").getValue(Long.class);
-
-                    if (url != null) {
-                        entries.add(new ImageEntry(url, order != null ? order.intValue() : 999));
-                    }
-                }
+    private HopeRepository(Context context) {
+        HopeImageDao dao = AppDatabase.getInstance(context).hopeImageDao();
+        cache = new RemoteListCache<>(context, "hope_images", TTL_MS,
+                HopeRepository::parse,
+                RemoteListCache.Store.of(dao::getAll, fresh -> {
+                    boolean changed = dao.applyDiff(fresh);
+                    // New or changed images → warm them on the next Wi-Fi window.
+                    if (changed) ImagePrefetchWorker.enqueue(context);
+                    return changed;
+                }));
+
+        // Built once, so every observer shares the same mapped LiveData and
+        // its activity still reaches the cache's observer count.
+        imageUrls = Transformations.map(cache.getData(), rows -> {
+            List<String> urls = new ArrayList<>(rows.size());
+            for (HopeImageEntity row : rows) urls.add(row.url);
+            return urls;
+        });
+    }
 
-                // Sort by the 'order' field so images appear in the right sequence.
-                entries.sort(Comparator.comparingInt(e -> e.order));
+    private static List<HopeImageEntity> parse(DataSnapshot snapshot) {
+        List<HopeImageEntity> entries = new ArrayList<>();
 
-                // Extract just the URLs in sorted order.
-                List<String> urls = new ArrayList<>();
-                for (ImageEntry entry : entries) {
-                    urls.add(entry.url);
-                }
+        // Each child is one image node (image_1, image_2, etc.)
+        for (DataSnapshot child : snapshot.getChildren()) {
+            String url   = child.child("url").getValue(String.class);
+            Long   order = child.child("order").getValue(Long.class);
 
-                // Post to LiveData — this is safe to call from any thread.
-                imageUrls.postValue(urls);
+            if (url != null) {
+                entries.add(new HopeImageEntity(url, order != null ? order.intValue() : 999));
             }
+        }
 
-            @Override
-            public void onCancelled(DatabaseError error) {
-                // Surface the error so the Fragment can show a message.
-                errorMessage.postValue(error.getMessage());
-            }
-        });
+        // Sort by the 'order' field so images appear in the right sequence.
+        entries.sort(Comparator.comparingInt(e -> e.order));
+        return entries;
     }
 
-    /** Exposes image URLs as read-only LiveData for the ViewModel. */
+    /** Exposes image URLs, sorted by order, as read-only LiveData for the ViewModel. */
     public LiveData<List<String>> getImageUrls() { return imageUrls; }
 
     /** Exposes error messages for the ViewModel. */
-    public LiveData<String> getError() { return errorMessage; }
-
-    // ─── Private helper class ───────────────────────────────────────
-    private static class ImageEntry {
-        final String url;
-        final int    order;
-        ImageEntry(String url, int order) { this.url = url; this.order = order; }
-    }
+    public LiveData<String> getError() { return cache.getError(); }
 }
@@ -3,99 +3,75 @@ package com.example.myapplication.data.repository;
 import android.content.Context;
 
 import androidx.lifecycle.LiveData;
-import androidx.lifecycle.MutableLiveData;
 
 import com.example.myapplication.data.local.AppDatabase;
 import com.example.myapplication.data.local.dao.HotlineDao;
 import com.example.myapplication.data.local.entity.HotlineEntity;
 import com.example.myapplication.data.local.entity.HotlineEntry;
-import com.example.myapplication.data.local.AppExecutors;
 
 import com.google.firebase.database.DataSnapshot;
-import com.google.firebase.database.DatabaseError;
-import com.google.firebase.database.DatabaseReference;
-import com.google.firebase.database.FirebaseDatabase;
-import com.google.firebase.database.ValueEventListener;
 
 import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.List;
+import java.util.concurrent.TimeUnit;
 
 public class HotlineRepository {
 
-    private final HotlineDao dao;
-    private final DatabaseReference hotlineRef;
+    // Hotline numbers are reference data; a daily check is plenty.
+    private static final long TTL_MS = TimeUnit.HOURS.toMillis(24);
 
-    private final MutableLiveData<List<HotlineEntity>> hotlines = new MutableLiveData<>();
-    private final MutableLiveData<String> error = new MutableLiveData<>();
+    private final RemoteListCache<HotlineEntity> cache;
 
-    private ValueEventListener hotlineListener;
+    private static volatile HotlineRepository INSTANCE;
 
-    public HotlineRepository(Context context) {
-        dao        = AppDatabase.getInstance(context).hotlineDao();
-        hotlineRef = FirebaseDatabase.getInstance().getReference("hotlines");
-        loadHotlines();
-    }
-
-    private void loadHotlines() {
-        // 1. Serve cached data immediately (fast, offline-safe)
-        AppExecutors.db().execute(() -> {
-            List<HotlineEntity> cached = dao.getAll();
-            if (!cached.isEmpty()) {
-                hotlines.postValue(cached);
-            }
-        });
-
-        // 2. Fetch fresh data from Firebase in background
-        hotlineListener = new ValueEventListener(){
-            @Override
-            public void onDataChange(DataSnapshot snapshot) {
-                List<HotlineEntry> entries = new ArrayList<>();
-                for (DataSnapshot child : snapshot.getChildren()) {
-                    HotlineEntry entry = child.getValue(HotlineEntry.class);
-                    if (entry != null && entry.phone != null) {
-                        entries.add(entry);
-                    }
+    // Process-wide: every ViewModel shares one cache and one listener.
+    public static HotlineRepository getInstance(Context context) {
+        if (INSTANCE == null) {
+            synchronized (HotlineRepository.class) {
+                if (INSTANCE == null) {
+                    INSTANCE = new HotlineRepository(context.getApplicationContext());
                 }
-                entries.sort(Comparator.comparingInt(e -> e.order));
-
-                AppExecutors.db().execute(() -> {
-                    // Refresh cache
-                    dao.deleteAll();
-                    for (HotlineEntry e : entries) {
-                        dao.upsert(new HotlineEntity(
-                                e.phone,
-                                e.name,
-                                e.email       != null ? e.email       : "",
-                                e.facebookUrl != null ? e.facebookUrl : "",
-                                e.order
-                        ));
-
-                    }
-                    hotlines.postValue(dao.getAll());
-                });
             }
+        }
+        return INSTANCE;
+    }
 
-            @Override
-            public void onCancelled(DatabaseError dbError) {
-                error.postValue(dbError.getMessage());
-            }
-        };
-        hotlineRef.addValueEventListener(hotlineListener);
+    private HotlineRepository(Context context) {
+        HotlineDao dao = AppDatabase.getInstance(context).hotlineDao();
+        cache = new RemoteListCache<>(context, "hotlines", TTL_MS,
+                HotlineRepository::parse,
+                RemoteListCache.Store.of(dao::getAll, dao::applyDiff));
+    }
 
+    private static List<HotlineEntity> parse(DataSnapshot snapshot) {
+        List<HotlineEntry> entries = new ArrayList<>();
+        for (DataSnapshot child : snapshot.getChildren()) {
+            HotlineEntry entry = child.getValue(HotlineEntry.class);
+            if (entry != null && entry.phone != null) {
+                entries.add(entry);
+            }
+        }
+        entries.sort(Comparator.comparingInt(e -> e.order));
+
+        List<HotlineEntity> fresh = new ArrayList<>(entries.size());
+        for (HotlineEntry e : entries) {
+            fresh.add(new HotlineEntity(
+                    e.phone,
+                    e.name,
+                    e.email       != null ? e.email       : "",
+                    e.facebookUrl != null ? e.facebookUrl : "",
+                    e.order
+            ));
+        }
+        return fresh;
     }
-    public LiveData<List<HotlineEntity>> getHotlines() { return hotlines; }
-    public LiveData<String> getError() { return error; }
 
     /**
-     * Removes the Firebase listener to prevent memory leaks.
-     * Call this from HotlineViewModel.onCleared().
+     * Shared list of hotlines. The Firebase listener is attached and released
+     * with this LiveData's active observers, so there is nothing to detach.
      */
-    public void detachListener() {
-        if (hotlineListener != null) {
-            hotlineRef.removeEventListener(hotlineListener);
-            hotlineListener = null;
-        }
-    }
+    public LiveData<List<HotlineEntity>> getHotlines() { return cache.getData(); }
+    public LiveData<String> getError() { return cache.getError(); }
 
 }
@@ -0,0 +1,111 @@
+package com.example.myapplication.data.repository;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.concurrent.futures.CallbackToFutureAdapter;
+import androidx.paging.ListenableFuturePagingSource;
+import androidx.paging.PagingState;
+import androidx.room.InvalidationTracker;
+
+import com.example.myapplication.data.local.AppDatabase;
+import com.example.myapplication.data.local.AppExecutors;
+import com.example.myapplication.data.local.dao.JournalEntryDao;
+import com.example.myapplication.data.local.entity.JournalEntryRow;
+import com.google.common.util.concurrent.ListenableFuture;
+
+import java.util.List;
+import java.util.Set;
+
+import kotlin.Unit;
+
+/**
+ * Keyset PagingSource for the journal list (JournalEntryRow projection).
+ * Each page is keyed on the (createdAtEpochMs, entryId) of the last row
+ * already loaded, so loading a page never scans or skips earlier rows.
+ * The list only grows downwards (newest first), so there is no prevKey.
+ *
+ * The source watches journal_entries through Room's InvalidationTracker and
+ * invalidates itself on any committed write, so Paging re-queries only when
+ * the table actually changed — never on a plain tab switch or back press.
+ */
+class JournalPagingSource
+        extends ListenableFuturePagingSource<JournalPagingSource.Key, JournalEntryRow> {
+
+    private final JournalEntryDao dao;
+    private final String userId;
+
+    JournalPagingSource(AppDatabase db, String userId) {
+        this.dao    = db.journalEntryDao();
+        this.userId = userId;
+
+        // One observer per source. Once invalidated, Paging builds a fresh
+        // source from the Pager factory, so this one unregisters itself.
+        InvalidationTracker tracker = db.getInvalidationTracker();
+        InvalidationTracker.Observer observer =
+                new InvalidationTracker.Observer("journal_entries") {
+                    @Override
+                    public void onInvalidated(@NonNull Set<String> tables) {
+                        invalidate();
+                    }
+                };
+        tracker.addObserver(observer);
+        registerInvalidatedCallback(() -> {
+            tracker.removeObserver(observer);
+            return Unit.INSTANCE;
+        });
+    }
+
+    @NonNull
+    @Override
+    public ListenableFuture<LoadResult<Key, JournalEntryRow>> loadFuture(
+            @NonNull LoadParams<Key> params) {
+        return CallbackToFutureAdapter.getFuture(completer -> {
+            // Room forbids main-thread reads — runs on the reader pool, so a page
+            // load never queues behind a restore merge on the writer.
+            AppExecutors.dbRead().execute(() -> {
+                try {
+                    Key key   = params.getKey();
+                    int limit = params.getLoadSize();
+
+                    List<JournalEntryRow> page = (key == null)
+                            ? dao.getFirstRowPage(userId, limit)
+                            : dao.getRowPageBefore(userId, key.createdAtEpochMs,
+                                                key.entryId, limit);
+
+                    // A short page means we reached the oldest entry.
+                    Key nextKey = page.size() < limit
+                            ? null
+                            : Key.of(page.get(page.size() - 1));
+
+                    completer.set(new LoadResult.Page<>(page, null, nextKey));
+                } catch (Exception e) {
+                    completer.set(new LoadResult.Error<>(e));
+                }
+            });
+            return "JournalPagingSource.load";
+        });
+    }
+
+    // Always refresh from the newest entry — new entries appear at the top,
+    // which is where the user expects to see them after saving.
+    @Nullable
+    @Override
+    public Key getRefreshKey(@NonNull PagingState<Key, JournalEntryRow> state) {
+        return null;
+    }
+
+    // ─── Page key ───────────────────────────────────────────────────
+    static final class Key {
+        final long createdAtEpochMs;
+        final long entryId;
+
+        Key(long createdAtEpochMs, long entryId) {
+            this.createdAtEpochMs = createdAtEpochMs;
+            this.entryId          = entryId;
+        }
+
+        static Key of(@NonNull JournalEntryRow last) {
+            return new Key(last.createdAtEpochMs, last.entryId);
+        }
+    }
+}
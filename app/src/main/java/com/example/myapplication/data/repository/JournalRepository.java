@@ -1,29 +1,110 @@
 package com.example.myapplication.data.repository;
 
 import android.content.Context;
+import android.os.Handler;
+import android.os.Looper;
 import android.util.Log;
 
+import com.example.myapplication.data.SessionManager;
 import com.example.myapplication.data.local.AppDatabase;
 import com.example.myapplication.data.local.AppExecutors;
 import com.example.myapplication.data.local.dao.JournalEntryDao;
+import com.example.myapplication.data.local.dao.JournalOutboxDao;
+import com.example.myapplication.data.local.dao.JournalSyncStateDao;
 import com.example.myapplication.data.local.entity.JournalEntryEntity;
-import com.google.firebase.firestore.DocumentSnapshot;
-import com.google.firebase.firestore.FirebaseFirestore;
+import com.example.myapplication.data.local.entity.JournalOutboxEntity;
+import com.example.myapplication.data.local.entity.JournalEntryRow;
+import com.example.myapplication.data.local.entity.JournalSyncStateEntity;
+import com.example.myapplication.data.remote.FirestoreJournalStore;
+import com.example.myapplication.data.remote.RemoteEntry;
+import com.example.myapplication.data.remote.RemoteJournalStore;
+import com.example.myapplication.util.ConnectivityMonitor;
+import com.example.myapplication.util.JournalRestoreWorker;
+import com.example.myapplication.util.JournalSyncScheduler;
+import com.google.android.gms.tasks.Task;
+import com.google.android.gms.tasks.TaskCompletionSource;
+import com.google.android.gms.tasks.Tasks;
 
 import androidx.annotation.NonNull;
-
+import androidx.annotation.Nullable;
+import androidx.annotation.VisibleForTesting;
+import androidx.core.util.Pair;
+import androidx.lifecycle.LiveData;
+import androidx.paging.Pager;
+import androidx.paging.PagingConfig;
+import androidx.paging.PagingData;
+import androidx.paging.PagingLiveData;
+
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 
 public class JournalRepository {
 
     private static final String TAG = "JournalRepository";
+
+    // Rows per page for the journal list. Paging loads 3 pages up front,
+    // which comfortably fills a phone screen.
+    private static final int PAGE_SIZE = 30;
+
+    // Outbox ops per remote commit. 500 is Firestore's per-batch write
+    // limit, and it also keeps IN (...) lists under SQLite's 999 cap.
+    private static final int OUTBOX_BATCH = Math.min(JournalEntryDao.SQL_VARIABLE_CHUNK,
+                                                     RemoteJournalStore.MAX_BATCH_WRITES);
+
+    // Documents per restore page. Small enough that a page parses and
+    // merges in one short writer transaction.
+    private static final int RESTORE_PAGE_SIZE = 300;
+
+    // Longest wait for one batch to settle before the drain gives up and
+    // lets WorkManager retry the rest with backoff.
+    private static final long BATCH_TIMEOUT_SECONDS = 60;
+
+    // Guards installReconnectFlush() — one connectivity listener per process.
+    private static final AtomicBoolean reconnectFlushInstalled = new AtomicBoolean();
+
+    // Documents currently being committed, shared by every repository
+    // instance (each ViewModel and worker run creates its own).
+    private static final InFlightPushes IN_FLIGHT = new InFlightPushes();
+
+    private final AppDatabase db;
     private final JournalEntryDao dao;
+    private final JournalOutboxDao outbox;
+    private final JournalSyncStateDao syncState;
+    private final RemoteJournalStore remote;
+    // Null only in tests, which call drainOutbox() themselves.
+    @Nullable private final Context appContext;
 
     public JournalRepository(Context context) {
-        dao = AppDatabase.getInstance(context).journalEntryDao();
+        this(AppDatabase.getInstance(context), new FirestoreJournalStore(),
+             context.getApplicationContext());
+    }
+
+    // Lets tests and benchmarks run the real sync code against an
+    // in-memory database and an in-memory RemoteJournalStore (src/test).
+    @VisibleForTesting
+    public JournalRepository(AppDatabase db, RemoteJournalStore remote) {
+        this(db, remote, null);
+    }
+
+    private JournalRepository(AppDatabase db, RemoteJournalStore remote,
+                              @Nullable Context appContext) {
+        this.db         = db;
+        this.dao        = db.journalEntryDao();
+        this.outbox     = db.journalOutboxDao();
+        this.syncState  = db.journalSyncStateDao();
+        this.remote     = remote;
+        this.appContext = appContext;
     }
 
     // ─────────────────────────────────────────────────────────────────
@@ -41,60 +122,65 @@ public class JournalRepository {
         // produce different UUIDs and therefore different Firestore documents.
         entry.firestoreId = UUID.randomUUID().toString();
 
-        // Step 3: Insert into Room. Capture the auto-generated entryId.
-        // dao.insert() runs synchronously here because addEntry() is already
+        // Step 3: Insert into Room AND queue the upsert in one transaction,
+        // so the entry can never exist locally without a pending sync op.
+        // Runs synchronously here because addEntry() is already
         // called from a background thread in HomeViewModel.
-        long entryId = dao.insert(entry);
-        entry.entryId = entryId;  // assign back so pushToFirestore has the full entity
-
-        // Step 4: Attempt Firestore write. Fire-and-forget — does not block.
-        // If this fails, syncedToFirebase stays false and WorkManager retries later.
-        pushToFirestore(entry);
+        db.runInTransaction(() -> {
+            entry.entryId = dao.insert(entry);
+            outbox.enqueue(userId, entry.firestoreId, JournalOutboxEntity.OP_UPSERT);
+        });
+
+        // Step 4: Ask for a sync. Debounced — a burst of writes is pushed
+        // as one batch shortly after the last one (see scheduleSync()).
+        scheduleSync();
     }
 
     // ─────────────────────────────────────────────────────────────────
-    // FIRESTORE PUSH — called both from addEntry() and SyncJournalWorker
+    // PUSH SCHEDULING — called after every local write.
+    // Writes no longer hit Firestore one by one: JournalSyncScheduler waits
+    // for a short quiet period, then enqueues ONE expedited SyncJournalWorker
+    // run (unique work, REPLACE) that drains the whole outbox. Offline, the
+    // run waits for a network connection instead of the next periodic sync.
     // ─────────────────────────────────────────────────────────────────
-    public void pushToFirestore(JournalEntryEntity entry) {
-
-        // Build the Firestore document as a plain Map.
-        // We include firestoreId inside the document so it is readable
-        // when pulling entries back down to a new device.
-        Map<String, Object> data = new HashMap<>();
-        data.put("firestoreId",     entry.firestoreId);
-        data.put("emotion",         entry.emotion);
-        data.put("description",     entry.description);
-        data.put("createdAtEpochMs",entry.createdAtEpochMs);
-
-        // Firestore path: journal_entries/{userId}/entries/{firestoreId}
-        //
-        // journal_entries  = top-level collection
-        // {userId}         = document that namespaces one user's data
-        //                    (Firebase Auth UID — matches security rule)
-        // entries          = sub-collection holding all this user's entries
-        // {firestoreId}    = individual entry document (UUID — globally unique)
-        FirebaseFirestore.getInstance()
-                .collection("journal_entries")
-                .document(entry.userId)
-                .collection("entries")
-                .document(entry.firestoreId)   // UUID, not entryId
-                .set(data)
-                .addOnSuccessListener(unused -> {
-                    // Entry is now safely backed up in Firestore.
-                    // Flip the flag in Room so WorkManager skips it on next run.
-                    entry.syncedToFirebase = true;
-                    AppExecutors.db().execute(() -> {
-                        dao.update(entry);
-                        Log.d(TAG, "Synced entry " + entry.firestoreId + " to Firestore");
-                    });
-                })
-                .addOnFailureListener(e -> {
-                    // Firestore write failed — no network, permission error, etc.
-                    // Do NOT update Room. syncedToFirebase stays false.
-                    // WorkManager will call pushToFirestore() again on the next run.
-                    Log.w(TAG, "Firestore sync failed for " + entry.firestoreId
-                            + ": " + e.getMessage());
-                });
+    private void scheduleSync() {
+        if (appContext != null) JournalSyncScheduler.requestSync(appContext);
+    }
+
+    // Flushes the outbox the moment the device comes back online, instead of
+    // waiting for WorkManager to notice the constraint. Called once from
+    // Dashboard.onCreate(); later calls are no-ops.
+    public static void installReconnectFlush(Context context) {
+        if (!reconnectFlushInstalled.compareAndSet(false, true)) return;
+        Context app = context.getApplicationContext();
+        ConnectivityMonitor.getInstance(app).addListener((previous, current) -> {
+            if (previous == ConnectivityMonitor.State.OFFLINE
+                    && current != ConnectivityMonitor.State.OFFLINE) {
+                new JournalRepository(app).flushPendingWrites();
+            }
+        });
+    }
+
+    // Enqueues the expedited sync right away (no debounce) if the signed-in
+    // user has anything waiting in the outbox.
+    public void flushPendingWrites() {
+        if (appContext == null) return;
+        AppExecutors.dbRead().execute(() -> {
+            String userId = new SessionManager(appContext).getLoggedInUserId();
+            if (userId == null) return;
+            int pending = outbox.countPending(userId);
+            if (pending == 0) return;
+            Log.d(TAG, "Back online — flushing " + pending + " pending ops");
+            JournalSyncScheduler.syncNow(appContext);
+        });
+    }
+
+    // Firestore already holds exactly this content (e.g. an edit that was
+    // reverted before it synced), as far as the last acknowledgement knows.
+    // pushBatch() still claims such a write: it is only dropped when no
+    // other version is in flight (see InFlightPushes.claim()).
+    private static boolean isUnchangedRemotely(JournalEntryEntity entry) {
+        return entry.contentHash != null && entry.contentHash.equals(entry.syncedContentHash);
     }
 
     // ─────────────────────────────────────────────────────────────────
@@ -106,6 +192,57 @@ public class JournalRepository {
         return dao.getEntriesByUser(userId);
     }
 
+    // Paged variant of listEntries() — used by RealizationFragment and
+    // MyJourneyFragment. Returns the lightweight JournalEntryRow projection.
+    // Pages are keyed on (createdAtEpochMs, entryId), so memory and
+    // time-to-first-row stay flat as the history grows.
+    // Observable: any insert/update/delete on journal_entries (local save,
+    // edit, delete or a Firestore restore) re-emits automatically.
+    public LiveData<PagingData<JournalEntryRow>> getPagedEntries(String userId) {
+        Pager<JournalPagingSource.Key, JournalEntryRow> pager = new Pager<>(
+                new PagingConfig(PAGE_SIZE, PAGE_SIZE, false),
+                () -> new JournalPagingSource(db, userId));
+        return PagingLiveData.getLiveData(pager);
+    }
+
+    // ─────────────────────────────────────────────────────────────────
+    // SEARCH — FTS4 over description + emotion, ranked and paged.
+    // query     — free text typed by the user; blank = filters only
+    // emotion   — "happy", "sad", ... or null for any
+    // dateRange — inclusive [from, to] epoch millis, or null for all time
+    // ─────────────────────────────────────────────────────────────────
+    public LiveData<PagingData<JournalEntryRow>> search(String userId,
+                                                        @Nullable String query,
+                                                        @Nullable String emotion,
+                                                        @Nullable Pair<Long, Long> dateRange) {
+        long from = (dateRange != null && dateRange.first  != null) ? dateRange.first  : 0L;
+        long to   = (dateRange != null && dateRange.second != null) ? dateRange.second : Long.MAX_VALUE;
+        String ftsQuery = toFtsQuery(query);
+
+        Pager<Integer, JournalEntryRow> pager = new Pager<>(
+                new PagingConfig(PAGE_SIZE, PAGE_SIZE, false),
+                () -> ftsQuery == null
+                        ? dao.filterRows(userId, emotion, from, to)
+                        : dao.searchRows(userId, ftsQuery, emotion, from, to));
+        return PagingLiveData.getLiveData(pager);
+    }
+
+    // Turns raw user input into a safe FTS4 MATCH expression:
+    // every word becomes a lower-case prefix term ("Calm wal" → "calm* wal*"),
+    // and FTS operators/quotes are dropped so typing never throws a syntax error.
+    // Returns null when there is nothing to match on.
+    @Nullable
+    static String toFtsQuery(@Nullable String raw) {
+        if (raw == null) return null;
+        StringBuilder sb = new StringBuilder();
+        for (String token : raw.split("[^\\p{L}\\p{N}]+")) {
+            if (token.isEmpty()) continue;
+            if (sb.length() > 0) sb.append(' ');
+            sb.append(token.toLowerCase(Locale.ROOT)).append('*');
+        }
+        return sb.length() == 0 ? null : sb.toString();
+    }
+
     public JournalEntryEntity getEntry(long entryId) {
         return dao.findById(entryId);
     }
@@ -114,11 +251,188 @@ public class JournalRepository {
     // SYNC SUPPORT — used by SyncJournalWorker
     // ─────────────────────────────────────────────────────────────────
 
-    // Returns only the current user's unsynced entries.
+    // Replays the current user's pending outbox ops, oldest first, as
+    // remote commits (Firestore WriteBatches) of up to OUTBOX_BATCH documents each.
+    // Cost depends on the number of pending changes, not on history size,
+    // and a week of offline edits syncs in a handful of round-trips.
     // Scoping by userId prevents WorkManager from attempting to push
     // another user's entries using the wrong authentication token.
-    public List<JournalEntryEntity> getUnsyncedEntries(String userId) {
-        return dao.findUnsyncedEntries(userId);
+    //
+    // BLOCKS until every batch it sent has been committed AND acknowledged
+    // in Room, so the caller (SyncJournalWorker) only finishes once the
+    // work is really done. At most maxInFlight batches are outstanding at
+    // once; after the first failure no new batches are started.
+    // Must be called off the main thread.
+    public DrainResult drainOutbox(String userId, int maxInFlight,
+                                   @Nullable ProgressListener listener)
+            throws InterruptedException {
+
+        int total = outbox.countPending(userId);
+        Semaphore inFlight   = new Semaphore(maxInFlight);
+        AtomicInteger done   = new AtomicInteger();
+        AtomicInteger failed = new AtomicInteger();
+        boolean timedOut = false;
+
+        long afterId = 0;
+        List<JournalOutboxEntity> page;
+        while (failed.get() == 0
+                && !(page = outbox.getPending(userId, afterId, OUTBOX_BATCH)).isEmpty()) {
+
+            // Wait for a free slot. A batch that never settles (e.g. the
+            // connection dropped mid-commit) counts as a failure.
+            if (!inFlight.tryAcquire(BATCH_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+                timedOut = true;
+                break;
+            }
+
+            int size = page.size();
+            afterId  = page.get(size - 1).id;
+            // Completion runs inline on whichever thread settles the task —
+            // this thread is parked on the semaphore, not the main looper.
+            pushBatch(userId, page).addOnCompleteListener(Runnable::run, task -> {
+                if (task.isSuccessful()) done.addAndGet(size);
+                else                     failed.addAndGet(size);
+                if (listener != null) listener.onProgress(done.get(), total);
+                inFlight.release();
+            });
+        }
+
+        // Drain: reclaiming every permit means every batch has settled.
+        if (!timedOut && !inFlight.tryAcquire(maxInFlight, BATCH_TIMEOUT_SECONDS,
+                                              TimeUnit.SECONDS)) {
+            timedOut = true;
+        }
+        return new DrainResult(total, done.get(), failed.get(), timedOut);
+    }
+
+    // Sends one page of outbox ops as a single atomic remote commit.
+    // Two drains can overlap (the expedited run, the periodic run, a flush on
+    // reconnect) and read the same outbox rows. IN_FLIGHT collapses those
+    // duplicates: a version that is already being committed is left to the
+    // drain that owns it, and a newer version waits for the older one to settle.
+    // On commit, the whole page is acknowledged in Room in one transaction
+    // (one bulk outbox delete, then the hash each write carried), instead
+    // of a listener and a Room write per entry. On failure nothing is touched
+    // and the ops are replayed on the next run.
+    private Task<Void> pushBatch(String userId, List<JournalOutboxEntity> ops) {
+
+        // ── Step 1: Load the entries behind the upserts in one query ──
+        List<String> upsertIds = new ArrayList<>();
+        for (JournalOutboxEntity op : ops) {
+            if (JournalOutboxEntity.OP_UPSERT.equals(op.op)) upsertIds.add(op.firestoreId);
+        }
+        Map<String, JournalEntryEntity> entries = new HashMap<>();
+        if (!upsertIds.isEmpty()) {
+            for (JournalEntryEntity e : dao.findByFirestoreIds(upsertIds)) {
+                entries.put(e.firestoreId, e);
+            }
+        }
+
+        // ── Step 2: Build the batch ──────────────────────────────────
+        // Deletes are written as tombstones, so incremental restores on other
+        // devices (which only see documents newer than their watermark) learn of them.
+        List<RemoteEntry>        candidates = new ArrayList<>(ops.size());
+        List<JournalOutboxEntity> pushOps   = new ArrayList<>(ops.size());
+        List<Long>               ackIds     = new ArrayList<>(ops.size());
+        // firestoreId → the content hash Firestore holds once this batch lands.
+        Map<String, String>      pushed     = new HashMap<>();
+        Set<String>              unchanged  = new HashSet<>();
+
+        for (JournalOutboxEntity op : ops) {
+            if (JournalOutboxEntity.OP_DELETE.equals(op.op)) {
+                candidates.add(RemoteEntry.tombstone(op.firestoreId, op.enqueuedAtEpochMs));
+                pushOps.add(op);
+                continue;
+            }
+            JournalEntryEntity entry = entries.get(op.firestoreId);
+            // Row is gone locally and no delete was queued — nothing to push,
+            // the op is simply acknowledged with the rest of the batch.
+            if (entry == null) {
+                ackIds.add(op.id);
+                continue;
+            }
+            // Same hash as the acknowledged remote version — the write can
+            // probably be skipped, but only claim() can tell for sure.
+            if (isUnchangedRemotely(entry)) unchanged.add(op.firestoreId);
+            candidates.add(RemoteEntry.of(entry));
+            pushOps.add(op);
+        }
+
+        // ── Step 3: Claim the writes against other in-flight batches ──
+        // An unchanged entry is skipped only if nothing else is in flight for
+        // it. If another version is (A → B → A, with B still committing), the
+        // current content is claimed like any edit and lands after B.
+        List<Task<Void>> predecessors = new ArrayList<>();
+        List<Task<Void>> holders      = new ArrayList<>();
+        Set<String>      upToDate     = new HashSet<>();
+        Map<String, InFlightPushes.Push> claimed =
+                IN_FLIGHT.claim(candidates, unchanged, upToDate, predecessors, holders);
+        List<RemoteEntry> writes = new ArrayList<>(claimed.size());
+        for (int i = 0; i < candidates.size(); i++) {
+            RemoteEntry write = candidates.get(i);
+            if (upToDate.contains(write.firestoreId)) {
+                ackIds.add(pushOps.get(i).id);
+                continue;
+            }
+            // Not claimed = the same version is already on the wire. This row
+            // stays in the outbox: the drain that sent it only acknowledges
+            // its own rows.
+            if (!claimed.containsKey(write.firestoreId)) continue;
+            writes.add(write);
+            ackIds.add(pushOps.get(i).id);
+            if (!write.deleted) pushed.put(write.firestoreId, write.contentHash);
+        }
+        // Once those holders settle, the skipped rows match what Firestore
+        // holds (or their push failed), so one more sync acknowledges or
+        // retries them instead of leaving them for an unrelated trigger.
+        if (!holders.isEmpty()) {
+            Log.d(TAG, "Skipped " + holders.size() + " writes already in flight");
+            Tasks.whenAllComplete(holders)
+                    .addOnCompleteListener(Runnable::run, unused -> scheduleSync());
+        }
+
+        if (writes.isEmpty()) {
+            return Tasks.call(AppExecutors.dbWrite(), () -> {
+                acknowledge(ackIds, pushed, upToDate);
+                return null;
+            });
+        }
+
+        // ── Step 4: Commit and acknowledge ───────────────────────────
+        // Older versions of these documents (other batches) settle first, so a
+        // stale write can never land on top of this one. The returned task
+        // completes only after the Room acknowledgement, so a caller awaiting
+        // it never sees a batch as done too early. Claims are released after
+        // the acknowledgement, when the outbox rows are gone.
+        int size = writes.size();
+        Task<Void> done = Tasks.whenAllComplete(predecessors)
+                .continueWithTask(Runnable::run, unused -> remote.commit(userId, writes))
+                .addOnFailureListener(e ->
+                        Log.w(TAG, "Batch commit failed (" + size + " writes): "
+                                + e.getMessage()))
+                .onSuccessTask(AppExecutors.dbWrite(), unused -> {
+                    acknowledge(ackIds, pushed, upToDate);
+                    Log.d(TAG, "Committed batch of " + size + " writes");
+                    return Tasks.forResult(null);
+                });
+        done.addOnCompleteListener(Runnable::run, unused -> IN_FLIGHT.release(claimed));
+        return done;
+    }
+
+    // Removes acknowledged outbox ops and records, per entry, the hash that
+    // was actually pushed — the row may have been edited again meanwhile,
+    // so copying its current contentHash would claim a version Firestore
+    // never received. Entries skipped as up to date only get their flag.
+    // One transaction, on the DB writer.
+    private void acknowledge(List<Long> outboxIds, Map<String, String> pushedHashes,
+                             Set<String> upToDateIds) {
+        db.runInTransaction(() -> {
+            outbox.deleteByIds(outboxIds);
+            for (Map.Entry<String, String> p : pushedHashes.entrySet()) {
+                dao.markPushed(p.getKey(), p.getValue());
+            }
+            if (!upToDateIds.isEmpty()) dao.markSyncedIfUnchanged(upToDateIds);
+        });
     }
 
     // Used during Firestore restore to check if an entry already exists locally.
@@ -126,143 +440,462 @@ public class JournalRepository {
         return dao.findByFirestoreId(firestoreId);
     }
     // ─────────────────────────────────────────────────────────────────
-    // RESTORE — full two-way sync: inserts, updates, deletes.
+    // RESTORE — two-way sync: inserts, updates, deletes.
     // Called by RealizationViewModel.loadEntriesWithRestore() when the
-    // user taps Sync.
+    // user taps Sync. Incremental: only documents whose server commit time
+    // (serverUpdatedAtMicros) is past this user's watermark
+    // (journal_sync_state) are fetched. Device clocks play no part, so a
+    // fast clock on one device cannot hide another device's edits.
+    // Streamed: the query is read RESTORE_PAGE_SIZE documents at a time
+    // with limit()/startAfter(), and each page is merged in its own
+    // transaction, so memory stays flat however long the history is.
+    // progress (optional) receives the running document count on the main thread.
+    // allowMetered = false (automatic restores) defers a full reconcile —
+    // the whole history — until the device is on an unmetered network.
     // ─────────────────────────────────────────────────────────────────
-    public void restoreFromFirestore(String userId, Runnable onComplete) {
-        FirebaseFirestore.getInstance()
-                .collection("journal_entries")
-                .document(userId)
-                .collection("entries")
-                .get()
-                .addOnSuccessListener(querySnapshot -> {
-
-                    AppExecutors.db().execute(() -> {
-
-                        // ── Step 1: Build the Firestore truth set ──────────────
-                        // Keys = every firestoreId that Firestore currently holds.
-                        java.util.Set<String> firestoreIds = new java.util.HashSet<>();
-
-                        for (DocumentSnapshot doc : querySnapshot.getDocuments()) {
-                            String firestoreId = doc.getString("firestoreId");
-                            if (firestoreId == null) continue;
-
-                            String emotion     = doc.getString("emotion");
-                            String description = doc.getString("description");
-                            Long   ts          = doc.getLong("createdAtEpochMs");
-                            if (emotion == null || description == null || ts == null) continue;
-
-                            firestoreIds.add(firestoreId);
-
-                            JournalEntryEntity existing = dao.findByFirestoreId(firestoreId);
-
-                            if (existing == null) {
-                                // ── INSERT: entry missing from Room ────────────
-                                JournalEntryEntity fresh = new JournalEntryEntity(
-                                        userId, emotion, description, ts);
-                                fresh.firestoreId      = firestoreId;
-                                fresh.syncedToFirebase = true;
-                                dao.insert(fresh);
-                                Log.d(TAG, "Restored (insert): " + firestoreId);
-
-                            } else if (!emotion.equals(existing.emotion)
-                                    || !description.equals(existing.description)) {
-                                // ── UPDATE: entry exists but content differs ───
-                                // This is what was missing — covers edits from
-                                // another device.
-                                existing.emotion          = emotion;
-                                existing.description      = description;
-                                existing.syncedToFirebase = true;
-                                dao.update(existing);
-                                Log.d(TAG, "Restored (update): " + firestoreId);
-                            }
-                            // else: Room matches Firestore — nothing to do.
-                        }
-
-                        // ── Step 2: Delete Room entries absent from Firestore ──
-                        // These were deleted on another device.
-                        List<JournalEntryEntity> localEntries = dao.getEntriesByUser(userId);
-                        for (JournalEntryEntity local : localEntries) {
-                            if (local.firestoreId == null) continue;
-                            if (!firestoreIds.contains(local.firestoreId)) {
-                                dao.deleteByEntryId(local.entryId);
-                                Log.d(TAG, "Restored (delete): " + local.firestoreId);
-                            }
-                        }
-
-                        // ── Step 3: Notify ViewModel ─────────────────────────
-                        if (onComplete != null) {
-                            new android.os.Handler(android.os.Looper.getMainLooper())
-                                    .post(onComplete);
-                        }
+    public void restoreFromFirestore(String userId, boolean allowMetered,
+                                     @Nullable RestoreProgressListener progress,
+                                     @Nullable Runnable onComplete) {
+        AppExecutors.dbRead().execute(() -> {
+
+            // No watermark yet (first sync on this device, after a wipe, or
+            // after upgrading from client-clock watermarks) = one full
+            // reconcile, paged in createdAtEpochMs order. Otherwise only
+            // documents committed since then, in server-time order, so a
+            // no-op sync costs ~0 reads.
+            long watermark = syncState.getWatermark(userId);
+
+            if (watermark == 0 && !allowMetered && deferToUnmetered(userId)) {
+                postToMain(onComplete);
+                return;
+            }
+            RemoteJournalStore.PageRequest first = watermark == 0
+                    ? new RemoteJournalStore.PageRequest(RemoteJournalStore.Order.CREATED_AT,
+                                                         0L, null, RESTORE_PAGE_SIZE)
+                    : new RemoteJournalStore.PageRequest(
+                            RemoteJournalStore.Order.SERVER_UPDATED_AT,
+                            watermark, null, RESTORE_PAGE_SIZE);
+
+            new RestoreRun(userId, watermark, progress, onComplete).fetch(first);
+        });
+    }
+
+    // True when the full restore was queued for the next unmetered network.
+    // JournalRestoreWorker then runs it in the background, if the same user
+    // is still signed in — even after a process restart.
+    private boolean deferToUnmetered(String userId) {
+        if (appContext == null) return false;
+        if (ConnectivityMonitor.getInstance(appContext).isUnmetered()) return false;
+
+        JournalRestoreWorker.enqueue(appContext, userId);
+        Log.d(TAG, "Full restore deferred until an unmetered network");
+        return true;
+    }
+
+    public interface RestoreProgressListener {
+        void onProgress(int documentsProcessed);
+    }
+
+    // One streamed restore. Pages are fetched strictly one after another:
+    // the next request only goes out once the previous page is committed.
+    // All page work runs on the DB writer.
+    private final class RestoreRun {
+        private final String userId;
+        private final long watermark;
+        private final boolean full;
+        @Nullable private final RestoreProgressListener progress;
+        @Nullable private final Runnable onComplete;
+
+        private int processed;
+        private int changedCount;
+        private int removedCount;
+        // Delta: highest server time merged so far — pages arrive in that order.
+        private long maxServerMicros;
+
+        // Full restore only: the watermark it will store (see onPage()), and
+        // the stamping of documents written before serverUpdatedAt existed.
+        private long reconcileWatermark = -1;
+        private final List<Task<Void>> backfills = new ArrayList<>();
+
+        // Full restore only: lower bound (inclusive) of the createdAtEpochMs
+        // slice the next page reconciles, and the ids already seen at exactly
+        // that timestamp (they were on the previous page).
+        private long rangeFrom = Long.MIN_VALUE;
+        private Set<String> carry = Collections.emptySet();
+
+        RestoreRun(String userId, long watermark,
+                   @Nullable RestoreProgressListener progress, @Nullable Runnable onComplete) {
+            this.userId       = userId;
+            this.watermark    = watermark;
+            this.full         = watermark == 0;
+            this.progress     = progress;
+            this.onComplete   = onComplete;
+            this.maxServerMicros = watermark;
+        }
+
+        // The store reads the server copy only: a partial offline cache must
+        // never be taken as the full remote truth (it would delete rows
+        // during a full reconcile).
+        void fetch(RemoteJournalStore.PageRequest request) {
+            remote.fetchPage(userId, request)
+                    .addOnSuccessListener(AppExecutors.dbWrite(), page -> onPage(request, page))
+                    .addOnFailureListener(e -> {
+                        Log.w(TAG, "Restore failed after " + processed + " documents: "
+                                + e.getMessage());
+                        postToMain(onComplete);
                     });
-                })
-                .addOnFailureListener(e -> {
-                    Log.w(TAG, "Restore failed: " + e.getMessage());
-                    if (onComplete != null) {
-                        new android.os.Handler(android.os.Looper.getMainLooper())
-                                .post(onComplete);
-                    }
-                });
+        }
+
+        private void onPage(RemoteJournalStore.PageRequest request,
+                            RemoteJournalStore.Page page) {
+            boolean last = !page.hasMore || page.last == null;
+
+            // ── Step 1: Split this page only ─────────────────────────
+            List<JournalEntryEntity> changed = new ArrayList<>(page.entries.size());
+            List<String> removed = new ArrayList<>();
+            List<String> unstamped = new ArrayList<>();
+            Set<String> present = new HashSet<>(carry);
+            long pageMaxMicros = 0;
+
+            for (RemoteEntry r : page.entries) {
+                present.add(r.firestoreId);
+                pageMaxMicros = Math.max(pageMaxMicros, r.serverUpdatedAtMicros);
+                // Only a full reconcile can see these — deltas filter on the stamp.
+                if (r.serverUpdatedAtMicros == 0) unstamped.add(r.firestoreId);
+
+                if (r.deleted) {
+                    removed.add(r.firestoreId);
+                    continue;
+                }
+                JournalEntryEntity e = r.toEntity(userId);
+                if (e != null) changed.add(e);
+            }
+
+            // Full restore: this page covers [rangeFrom, lastCreatedAt). Rows AT
+            // lastCreatedAt may continue on the next page, so they are checked
+            // there, with this page's ids at that timestamp carried over.
+            long rangeTo = Long.MAX_VALUE;
+            Set<String> nextCarry = Collections.emptySet();
+            if (full && !last) {
+                rangeTo   = page.last.createdAtEpochMs;
+                nextCarry = new HashSet<>();
+                for (RemoteEntry r : page.entries) {
+                    if (r.createdAtEpochMs == rangeTo) nextCarry.add(r.firestoreId);
+                }
+                nextCarry.add(page.last.firestoreId);
+            }
+
+            // ── Step 2: Merge this page in its own transaction ───────
+            // A delta is ordered by server time, and anything committed after
+            // a page was read is stamped later still, so the watermark can
+            // move page by page. A full reconcile is ordered by createdAt:
+            // an entry on an early page may be edited while later pages are
+            // read, and those later pages can hold newer stamps. Its
+            // watermark is therefore the newest stamp on the FIRST page,
+            // which is no later than the moment the reconcile started.
+            // Anything stamped after that is fetched again by the next delta;
+            // merging is idempotent.
+            if (!full) maxServerMicros = Math.max(maxServerMicros, pageMaxMicros);
+            else if (reconcileWatermark < 0) reconcileWatermark = pageMaxMicros;
+
+            long from = rangeFrom, to = rangeTo;
+            long seen = maxServerMicros;
+            db.runInTransaction(() -> {
+                dao.applyRemoteChanges(userId, changed, removed);
+                if (full) dao.deleteSyncedMissingInRange(userId, from, to, present);
+                if (!full && seen > watermark) {
+                    syncState.upsert(new JournalSyncStateEntity(userId, seen));
+                }
+            });
+
+            // Backfill: stamp legacy documents (content untouched) so other
+            // devices' deltas and live sync can see them from now on.
+            if (!unstamped.isEmpty()) {
+                backfills.add(remote.stampServerTime(userId, unstamped));
+            }
+
+            processed    += page.entries.size();
+            changedCount += changed.size();
+            removedCount += removed.size();
+            rangeFrom     = rangeTo;
+            carry         = nextCarry;
+            if (progress != null) {
+                int count = processed;
+                postToMain(() -> progress.onProgress(count));
+            }
+
+            // ── Step 3: Next page, or done ───────────────────────────
+            if (!last) {
+                fetch(request.next(page.last));
+                return;
+            }
+            if (full) finishFull();
+            else      finish();
+        }
+
+        // The full reconcile only counts once every legacy document is
+        // stamped: if a backfill failed, no watermark is stored and the next
+        // restore reconciles in full again.
+        private void finishFull() {
+            Tasks.whenAll(backfills).addOnCompleteListener(AppExecutors.dbWrite(), t -> {
+                if (t.isSuccessful()) {
+                    // At least 1 µs, so an empty (or all-legacy) history still
+                    // switches the next restore to a delta.
+                    syncState.upsert(new JournalSyncStateEntity(userId,
+                            Math.max(reconcileWatermark, 1L)));
+                } else {
+                    Log.w(TAG, "Server time backfill failed — next restore is full again",
+                            t.getException());
+                }
+                finish();
+            });
+        }
+
+        private void finish() {
+            Log.d(TAG, "Restored " + changedCount + " changed / " + removedCount
+                    + " removed of " + processed + " documents"
+                    + (full ? " (full, " + backfills.size() + " backfill batches)"
+                            : " (since " + watermark + ")"));
+            AppExecutors.logStats();   // reader vs writer queue health
+            postToMain(onComplete);
+        }
+    }
+
+    // ─────────────────────────────────────────────────────────────────
+    // LIVE SYNC — opt-in, while the journal screens are visible.
+    // Subscribes to the remote store from the restore watermark (server
+    // time), so attaching does not re-read the whole history. Each batch of changes
+    // is applied in one Room transaction. Call remove() on the handle to detach.
+    // ─────────────────────────────────────────────────────────────────
+    public RemoteJournalStore.Subscription startLiveSync(String userId) {
+        LiveSyncHandle handle = new LiveSyncHandle();
+
+        // The watermark is a Room read, so the listener attaches from the reader pool.
+        AppExecutors.dbRead().execute(() -> {
+            long watermark = syncState.getWatermark(userId);
+            handle.attach(remote.listen(userId, watermark, new RemoteJournalStore.ChangeListener() {
+                @Override
+                public void onChanges(@NonNull List<RemoteEntry> changed,
+                                      @NonNull List<String> removedIds, boolean fromServer) {
+                    applyRemoteChanges(userId, changed, removedIds, fromServer);
+                }
+
+                @Override
+                public void onError(@NonNull Exception e) {
+                    Log.w(TAG, "Live sync stopped: " + e.getMessage());
+                }
+            }));
+        });
+        return handle;
+    }
+
+    private void applyRemoteChanges(String userId, List<RemoteEntry> changes,
+                                    List<String> removedIds, boolean fromServer) {
+
+        // ── Step 1: Split the deltas (cheap — runs on the callback thread) ──
+        List<JournalEntryEntity> changed = new ArrayList<>();
+        List<String> removed = new ArrayList<>(removedIds);
+        long maxServerMicros = 0;
+
+        for (RemoteEntry r : changes) {
+            maxServerMicros = Math.max(maxServerMicros, r.serverUpdatedAtMicros);
+            if (r.deleted) {
+                removed.add(r.firestoreId);
+                continue;
+            }
+            JournalEntryEntity e = r.toEntity(userId);
+            if (e != null) changed.add(e);
+        }
+        if (changed.isEmpty() && removed.isEmpty()) return;
+
+        // ── Step 2: One transaction per batch ────────────────────────
+        // Changes served from a local cache may be incomplete, so —
+        // like restoreFromFirestore() — they never move the watermark.
+        // With no watermark yet (listen from 0), the full reconcile owns it —
+        // the snapshot may include unstamped documents.
+        long seen = fromServer ? maxServerMicros : 0;
+        AppExecutors.dbWrite().execute(() -> {
+            db.runInTransaction(() -> {
+                dao.applyRemoteChanges(userId, changed, removed);
+                long current = syncState.getWatermark(userId);
+                if (current > 0 && seen > current) {
+                    syncState.upsert(new JournalSyncStateEntity(userId, seen));
+                }
+            });
+            Log.d(TAG, "Live sync applied " + changed.size() + " changed / "
+                    + removed.size() + " removed");
+        });
+    }
+
+    // Handle returned by startLiveSync(). The real subscription arrives
+    // asynchronously, so remove() may run first — attach() then detaches at once.
+    private static final class LiveSyncHandle implements RemoteJournalStore.Subscription {
+        private RemoteJournalStore.Subscription subscription;
+        private boolean removed;
+
+        synchronized void attach(RemoteJournalStore.Subscription s) {
+            if (removed) s.remove();
+            else         subscription = s;
+        }
+
+        @Override
+        public synchronized void remove() {
+            removed = true;
+            if (subscription != null) {
+                subscription.remove();
+                subscription = null;
+            }
+        }
+    }
+
+    private static void postToMain(@Nullable Runnable r) {
+        if (r != null) new Handler(Looper.getMainLooper()).post(r);
     }
 
     // ─────────────────────────────────────────────────────────────────
     // DELETE — called from EntryDetailsViewModel on a background thread
-    // Step 1: Delete from Room immediately (source of truth).
-    // Step 2: Delete from Firestore asynchronously (fire-and-forget).
-    // If Firestore delete fails and restoreFromFirestore() runs later,
-    // the entry will reappear — this is a known offline limitation.
+    // Step 1: Delete from Room and queue the remote delete, in one transaction.
+    // Step 2: Schedule a sync, which writes the Firestore tombstone.
+    // Until it is acknowledged the outbox op survives: the worker
+    // retries it, and restoreFromFirestore() will not resurrect the entry.
     // ─────────────────────────────────────────────────────────────────
     public void deleteEntry(JournalEntryEntity entry) {
 
+        boolean hasRemote = entry.firestoreId != null && !entry.firestoreId.isEmpty();
+
         // Step 1: Room delete — synchronous, must be on background thread.
-        dao.deleteByEntryId(entry.entryId);
+        db.runInTransaction(() -> {
+            dao.deleteByEntryId(entry.entryId);
+            if (hasRemote) {
+                outbox.enqueue(entry.userId, entry.firestoreId, JournalOutboxEntity.OP_DELETE);
+            }
+        });
         Log.d(TAG, "Deleted entry from Room: " + entry.entryId);
 
-        // Step 2: Firestore delete — skip if entry was never synced.
-        if (entry.firestoreId == null || entry.firestoreId.isEmpty()) {
+        // Step 2: Firestore delete — skip if entry never had a Firestore identity.
+        if (!hasRemote) {
             Log.d(TAG, "No firestoreId — skipping Firestore delete");
             return;
         }
-
-        // Firestore path mirrors pushToFirestore():
-        // journal_entries/{userId}/entries/{firestoreId}
-        FirebaseFirestore.getInstance()
-                .collection("journal_entries")
-                .document(entry.userId)
-                .collection("entries")
-                .document(entry.firestoreId)
-                .delete()
-                .addOnSuccessListener(unused ->
-                        Log.d(TAG, "Deleted from Firestore: " + entry.firestoreId))
-                .addOnFailureListener(e ->
-                        Log.w(TAG, "Firestore delete failed: " + e.getMessage()));
+        scheduleSync();
     }
+
     // ─────────────────────────────────────────────────────────────────
     // UPDATE — called from EditEntryViewModel on a background thread.
     // Mutates the entity in place, marks it unsynced, writes to Room,
-    // then overwrites the Firestore document via pushToFirestore().
+    // then schedules the push that overwrites the Firestore document.
     // ─────────────────────────────────────────────────────────────────
     public void updateEntry(@NonNull JournalEntryEntity entry,
                             @NonNull String newEmotion,
                             @NonNull String newDescription) {
 
-        entry.emotion          = newEmotion;
-        entry.description      = newDescription;
-        // Mark unsynced so WorkManager retries Firestore if offline.
+        // Saved without changing anything — no Room write, no outbox op,
+        // no Firestore write.
+        if (JournalEntryEntity.hashContent(newEmotion, newDescription)
+                .equals(entry.contentHash)) {
+            Log.d(TAG, "Entry " + entry.entryId + " unchanged — skipping update");
+            return;
+        }
+
+        entry.setContent(newEmotion, newDescription);
+        entry.updatedAtEpochMs = System.currentTimeMillis();
+        // Mark unsynced until Firestore acknowledges the queued upsert.
         entry.syncedToFirebase = false;
 
-        // Room update — synchronous, already on background thread.
-        dao.update(entry);
+        // Room update + outbox upsert — one transaction, already on background thread.
+        db.runInTransaction(() -> {
+            dao.update(entry);
+            outbox.enqueue(entry.userId, entry.firestoreId, JournalOutboxEntity.OP_UPSERT);
+        });
         Log.d(TAG, "Updated entry in Room: " + entry.entryId);
 
-        // Firestore overwrite — fire-and-forget.
-        // .set() replaces the full document, so emotion and description
-        // are updated without needing a separate Firestore method.
-        pushToFirestore(entry);
+        // Firestore overwrite — debounced with any other pending writes.
+        // The outbox enqueue coalesces repeated edits of this entry into
+        // one upsert, and set() replaces the full document.
+        scheduleSync();
     }
 
+    // ─── In-flight push registry ────────────────────────────────────
+    // firestoreId → the version currently being committed. A version is the
+    // content hash (or "deleted" for a tombstone), so two pushes of the same
+    // content collapse into one whatever triggered them.
+    private static final class InFlightPushes {
+
+        static final class Push {
+            final String version;
+            final TaskCompletionSource<Void> settled = new TaskCompletionSource<>();
 
+            Push(String version) {
+                this.version = version;
+            }
+        }
 
+        private final Map<String, Push> pushes = new HashMap<>();
+
+        // Claims a whole batch at once, so batches only ever wait on batches
+        // claimed before them (no cycles). Returns the writes this batch now
+        // owns; a write whose exact version is already in flight is left out.
+        // For a newer version, the older push's settled task is added to
+        // 'waitFor' and the new claim supersedes it. For the same version, the
+        // holder's settled task goes to 'skipped'.
+        // 'unchanged' ids match what Firestore last acknowledged: with nothing
+        // in flight they need no write and go to 'upToDate' instead.
+        synchronized Map<String, Push> claim(List<RemoteEntry> writes, Set<String> unchanged,
+                                             Set<String> upToDate, List<Task<Void>> waitFor,
+                                             List<Task<Void>> skipped) {
+            Map<String, Push> claimed = new HashMap<>();
+            for (RemoteEntry e : writes) {
+                String version = e.deleted ? "deleted" : String.valueOf(e.contentHash);
+                Push current = pushes.get(e.firestoreId);
+                if (current == null && unchanged.contains(e.firestoreId)) {
+                    upToDate.add(e.firestoreId);
+                    continue;
+                }
+                if (current != null) {
+                    if (current.version.equals(version)) {
+                        skipped.add(current.settled.getTask());
+                        continue;
+                    }
+                    waitFor.add(current.settled.getTask());
+                }
+                Push push = new Push(version);
+                pushes.put(e.firestoreId, push);
+                claimed.put(e.firestoreId, push);
+            }
+            return claimed;
+        }
+
+        // Called once the batch settled (committed and acknowledged, or failed).
+        synchronized void release(Map<String, Push> claimed) {
+            for (Map.Entry<String, Push> c : claimed.entrySet()) {
+                pushes.remove(c.getKey(), c.getValue());   // unless already superseded
+                c.getValue().settled.trySetResult(null);
+            }
+        }
+    }
+
+    // ─── Outbox drain reporting ─────────────────────────────────────
+    public interface ProgressListener {
+        // Called after each batch settles. May run on any thread.
+        void onProgress(int done, int total);
+    }
+
+    public static final class DrainResult {
+        public final int     total;     // ops pending when the drain started
+        public final int     synced;    // ops committed and acknowledged
+        public final int     failed;    // ops in batches that failed to commit
+        public final boolean timedOut;  // a batch never settled
+
+        DrainResult(int total, int synced, int failed, boolean timedOut) {
+            this.total    = total;
+            this.synced   = synced;
+            this.failed   = failed;
+            this.timedOut = timedOut;
+        }
+
+        // True when something is left for a retry.
+        public boolean isPartial() {
+            return failed > 0 || timedOut;
+        }
+    }
 }
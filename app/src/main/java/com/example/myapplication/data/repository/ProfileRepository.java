@@ -10,12 +10,14 @@ import java.util.HashMap;
 import java.util.Map;
 
 import android.content.Context;
+import android.os.Handler;
+import android.os.Looper;
 import androidx.work.WorkManager;
 import com.example.myapplication.data.local.AppDatabase;
+import com.example.myapplication.data.local.AppExecutors;
+import com.example.myapplication.util.SyncJournalWorker;
 import com.google.android.gms.auth.api.signin.GoogleSignIn;
 import com.google.android.gms.auth.api.signin.GoogleSignInOptions;
-import com.google.firebase.firestore.DocumentSnapshot;
-import com.google.firebase.firestore.WriteBatch;
 import com.example.myapplication.R;
 
 import com.google.firebase.functions.FirebaseFunctions;
@@ -145,80 +147,45 @@ public class ProfileRepository {
         String uid = user.getUid();
 
         // Step 1 — Cancel WorkManager sync jobs
-        WorkManager.getInstance(context).cancelAllWorkByTag("sync_journal");
-
-        // Step 2 — Delete Firestore profile document
-        db.collection("users").document(uid)
-                .delete()
-                .addOnSuccessListener(unused1 -> {
-
-                    // Step 3 — Fetch and batch-delete Firestore journal entries
-                    db.collection("journal_entries").document(uid)
-                            .collection("entries")
-                            .get()
-                            .addOnSuccessListener(snapshot -> {
-                                WriteBatch batch = db.batch();
-                                for (DocumentSnapshot doc : snapshot.getDocuments()) {
-                                    batch.delete(doc.getReference());
-                                }
-
-                                batch.commit().addOnSuccessListener(unused2 -> {
-
-                                    // Step 4 — Delete Room on background thread
-                                    new Thread(() -> {
-                                        roomDb.journalEntryDao().deleteAllByUser(uid);
-
-                                        // Step 5 — Return to MAIN thread before calling
-                                        // Firebase Functions (requires main thread context)
-                                        new android.os.Handler(
-                                                android.os.Looper.getMainLooper()).post(() -> {
-
-                                            // Step 6 — Force refresh token then call function
-                                            FirebaseAuth.getInstance()
-                                                    .getCurrentUser()
-                                                    .getIdToken(true)
-                                                    .addOnSuccessListener(tokenResult -> {
-
-                                                        FirebaseFunctions functions = FirebaseFunctions.getInstance("us-central1");
-                                                        functions.getHttpsCallable("deleteAccount")
-                                                                .call()
-                                                                .addOnSuccessListener(result -> {
-
-                                                                    // Step 7 — Sign out Firebase
-                                                                    auth.signOut();
-
-                                                                    // Step 8 — Sign out Google
-                                                                    GoogleSignInOptions gso =
-                                                                            new GoogleSignInOptions.Builder(
-                                                                                    GoogleSignInOptions.DEFAULT_SIGN_IN)
-                                                                                    .requestIdToken(context.getString(
-                                                                                            R.string.default_web_client_id))
-                                                                                    .requestEmail()
-                                                                                    .build();
-
-                                                                    GoogleSignIn.getClient(context, gso)
-                                                                            .signOut()
-                                                                            .addOnCompleteListener(t ->
-                                                                                    callback.onSuccess());
-                                                                })
-                                                                .addOnFailureListener(e ->
-                                                                        callback.onError("Auth delete failed: "
-                                                                                + e.getMessage()));
-                                                    })
-                                                    .addOnFailureListener(e ->
-                                                            callback.onError("Token refresh failed: "
-                                                                    + e.getMessage()));
-                                        });
-
-                                    }).start();
-
-                                }).addOnFailureListener(e ->
-                                        callback.onError("Journal delete failed: " + e.getMessage()));
-                            })
-                            .addOnFailureListener(e ->
-                                    callback.onError("Could not fetch journals: " + e.getMessage()));
+        WorkManager.getInstance(context).cancelAllWorkByTag(SyncJournalWorker.WORK_TAG);
+
+        // Step 2 — Force refresh token, then one call to the deleteAccount
+        // Cloud Function. It deletes the journal and profile documents
+        // server-side (recursive, chunked) and then the Auth user, so nothing
+        // is downloaded and history size does not matter.
+        user.getIdToken(true)
+                .onSuccessTask(tokenResult -> FirebaseFunctions.getInstance("us-central1")
+                        .getHttpsCallable("deleteAccount")
+                        .call())
+                .addOnSuccessListener(result -> {
+
+                    // Step 3 — Delete Room data on the DB writer
+                    AppExecutors.dbWrite().execute(() -> {
+                        roomDb.runInTransaction(() -> {
+                            roomDb.journalEntryDao().deleteAllByUser(uid);
+                            roomDb.journalOutboxDao().deleteAllByUser(uid);
+                            roomDb.journalSyncStateDao().deleteAllByUser(uid);
+                        });
+
+                        // Step 4 — Back on the main thread: sign out Firebase and Google
+                        new Handler(Looper.getMainLooper()).post(() -> {
+                            auth.signOut();
+
+                            GoogleSignInOptions gso =
+                                    new GoogleSignInOptions.Builder(
+                                            GoogleSignInOptions.DEFAULT_SIGN_IN)
+                                            .requestIdToken(context.getString(
+                                                    R.string.default_web_client_id))
+                                            .requestEmail()
+                                            .build();
+
+                            GoogleSignIn.getClient(context, gso)
+                                    .signOut()
+                                    .addOnCompleteListener(t -> callback.onSuccess());
+                        });
+                    });
                 })
                 .addOnFailureListener(e ->
-                        callback.onError("Profile delete failed: " + e.getMessage()));
+                        callback.onError("Account delete failed: " + e.getMessage()));
     }
 }
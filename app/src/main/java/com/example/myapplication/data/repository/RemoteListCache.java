@@ -0,0 +1,211 @@
+package com.example.myapplication.data.repository;
+
+import android.content.Context;
+import android.content.SharedPreferences;
+import android.os.Handler;
+import android.os.Looper;
+import android.util.Log;
+
+import androidx.annotation.NonNull;
+import androidx.lifecycle.LiveData;
+import androidx.lifecycle.MutableLiveData;
+
+import com.example.myapplication.data.local.AppExecutors;
+import com.google.firebase.database.DataSnapshot;
+import com.google.firebase.database.DatabaseError;
+import com.google.firebase.database.DatabaseReference;
+import com.google.firebase.database.FirebaseDatabase;
+import com.google.firebase.database.ValueEventListener;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Stale-while-revalidate cache for one Realtime Database list node
+ * (videos, hotlines, hope_images), shared by the content repositories.
+ *
+ * Driven by its observers: getData() starts the cache when it gains its
+ * first active observer and releases it GRACE_MS after losing the last one.
+ *   1. Local rows are emitted first, always — cold start renders from disk.
+ *   2. Fresh (fetched less than ttlMs ago)  → done, no network at all.
+ *      Stale or empty                      → a ValueEventListener revalidates;
+ *      its snapshots are parsed, diffed into the Store, and re-emitted only
+ *      when something changed. It stays attached (live updates) until released.
+ * Coming back within the grace period (tab switches, rotation) finds the
+ * listener still attached, so the node is not downloaded again.
+ *
+ * The last-fetched time per path survives restarts (SharedPreferences).
+ * Hit / stale / miss / fetch counters are logged with every start.
+ */
+public class RemoteListCache<T> {
+
+    private static final String TAG   = "RemoteListCache";
+    private static final String PREFS = "remote_list_cache";
+
+    // How long the listener outlives the last active observer.
+    static final long GRACE_MS = 10_000;
+
+    private static final Handler MAIN = new Handler(Looper.getMainLooper());
+
+    /** Turns the node's snapshot into rows, in display order. Runs on the main thread. */
+    public interface Parser<T> {
+        @NonNull List<T> parse(@NonNull DataSnapshot snapshot);
+    }
+
+    /** Local persistence. load() runs on the DB reader, replace() on the DB writer. */
+    public interface Store<T> {
+        @NonNull List<T> load();
+
+        // Makes local data equal 'fresh'. Returns false when it already was.
+        // The Room stores (the DAOs' applyDiff()) do it in ONE transaction
+        // and touch only the rows that differ — new or changed rows (by the
+        // entity's sameContentAs()) are upserted, rows missing from 'fresh'
+        // deleted — so an unchanged snapshot costs no writes, and 'false'
+        // lets the cache skip re-querying and re-emitting the list.
+        boolean replace(@NonNull List<T> fresh);
+
+        // Room-backed store from a DAO's query + diff-apply pair.
+        static <T> Store<T> of(Supplier<List<T>> load, Function<List<T>, Boolean> replace) {
+            return new Store<T>() {
+                @NonNull @Override public List<T> load() { return load.get(); }
+                @Override public boolean replace(@NonNull List<T> fresh) { return replace.apply(fresh); }
+            };
+        }
+    }
+
+    private final String path;
+    private final long ttlMs;
+    private final Parser<T> parser;
+    private final Store<T> store;
+    private final SharedPreferences prefs;
+    private final DatabaseReference ref;
+
+    private final MutableLiveData<List<T>> data  = new ObservedList();
+    private final MutableLiveData<String>  error = new MutableLiveData<>();
+    private final Runnable release = this::stop;
+
+    private ValueEventListener listener;
+    // True between the first active observer and the end of the grace period.
+    private volatile boolean active;
+    // True once the list has been emitted at least once (cache or remote).
+    private volatile boolean emitted;
+
+    // ── Metrics ──────────────────────────────────────────────────────
+    private final AtomicInteger hits      = new AtomicInteger();  // local, fresh → no fetch
+    private final AtomicInteger staleHits = new AtomicInteger();  // local, expired → revalidate
+    private final AtomicInteger misses    = new AtomicInteger();  // nothing local → fetch
+    private final AtomicInteger fetches   = new AtomicInteger();  // snapshots received
+
+    public RemoteListCache(Context context, String path, long ttlMs,
+                           Parser<T> parser, Store<T> store) {
+        this.path   = path;
+        this.ttlMs  = ttlMs;
+        this.parser = parser;
+        this.store  = store;
+        this.prefs  = context.getApplicationContext()
+                .getSharedPreferences(PREFS, Context.MODE_PRIVATE);
+        this.ref    = FirebaseDatabase.getInstance().getReference(path);
+    }
+
+    public LiveData<List<T>> getData() { return data; }
+    public LiveData<String>  getError() { return error; }
+
+    /** Epoch millis of the last snapshot stored for this path, 0 = never. */
+    public long getLastFetchedEpochMs() {
+        return prefs.getLong(path, 0L);
+    }
+
+    public boolean isExpired() {
+        return System.currentTimeMillis() - getLastFetchedEpochMs() >= ttlMs;
+    }
+
+    // ── Observer-driven lifecycle (main thread) ──────────────────────
+
+    // LiveData already counts active observers across every Fragment that
+    // observes the shared list; its 0 → 1 and 1 → 0 edges drive the cache.
+    private final class ObservedList extends MutableLiveData<List<T>> {
+        @Override
+        protected void onActive() {
+            MAIN.removeCallbacks(release);   // back within the grace period
+            if (active) return;
+            active = true;
+            start();
+        }
+
+        @Override
+        protected void onInactive() {
+            MAIN.postDelayed(release, GRACE_MS);
+        }
+    }
+
+    private void start() {
+        AppExecutors.dbRead().execute(() -> {
+            // Step 1: Serve local rows immediately (works offline). Skipped
+            // when the list is already in memory from an earlier start.
+            boolean hasData = emitted;
+            if (!hasData) {
+                List<T> cached = store.load();
+                hasData = !cached.isEmpty();
+                if (hasData) {
+                    emitted = true;
+                    data.postValue(cached);
+                }
+            }
+
+            // Step 2: Decide whether the network is needed at all.
+            boolean expired = isExpired();
+            if (!hasData)     misses.incrementAndGet();
+            else if (expired) staleHits.incrementAndGet();
+            else              hits.incrementAndGet();
+            Log.d(TAG, stats());
+
+            if (!hasData || expired) attachListener();
+        });
+    }
+
+    private synchronized void stop() {
+        active = false;
+        if (listener != null) {
+            ref.removeEventListener(listener);
+            listener = null;
+            Log.d(TAG, path + ": listener released");
+        }
+    }
+
+    private synchronized void attachListener() {
+        if (listener != null || !active) return;
+        listener = new ValueEventListener() {
+            @Override
+            public void onDataChange(@NonNull DataSnapshot snapshot) {
+                fetches.incrementAndGet();
+                List<T> fresh = parser.parse(snapshot);
+
+                // Diff into the store; identical data means no write and no
+                // re-emission, so observers and adapters are left alone.
+                AppExecutors.dbWrite().execute(() -> {
+                    boolean changed = store.replace(fresh);
+                    prefs.edit().putLong(path, System.currentTimeMillis()).apply();
+                    if (changed || !emitted) {
+                        emitted = true;
+                        data.postValue(store.load());
+                    }
+                });
+            }
+
+            @Override
+            public void onCancelled(@NonNull DatabaseError e) {
+                error.postValue(e.getMessage());
+            }
+        };
+        ref.addValueEventListener(listener);
+    }
+
+    public String stats() {
+        return String.format(Locale.US, "%s: hit=%d stale=%d miss=%d fetches=%d lastFetched=%d",
+                path, hits.get(), staleHits.get(), misses.get(), fetches.get(),
+                getLastFetchedEpochMs());
+    }
+}
@@ -3,83 +3,74 @@ package com.example.myapplication.data.repository;
 import android.content.Context;
 
 import androidx.lifecycle.LiveData;
-import androidx.lifecycle.MutableLiveData;
 
 import com.example.myapplication.data.local.AppDatabase;
 import com.example.myapplication.data.local.dao.VideoDao;
 import com.example.myapplication.data.local.entity.VideoEntity;
-import com.example.myapplication.data.local.AppExecutors;
+import com.example.myapplication.util.ImagePrefetchWorker;
+import com.example.myapplication.util.YouTubeThumbnails;
 
 import com.google.firebase.database.DataSnapshot;
-import com.google.firebase.database.DatabaseError;
-import com.google.firebase.database.DatabaseReference;
-import com.google.firebase.database.FirebaseDatabase;
-import com.google.firebase.database.ValueEventListener;
 
 import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.List;
+import java.util.concurrent.TimeUnit;
 
 public class VideoRepository {
 
-    private final VideoDao dao;
-    private final DatabaseReference videoRef;
-    private final MutableLiveData<List<VideoEntity>> videos = new MutableLiveData<>();
-    private final MutableLiveData<String> error = new MutableLiveData<>();
-    private ValueEventListener videoListener;
+    // The video list is curated by hand and changes rarely.
+    private static final long TTL_MS = TimeUnit.HOURS.toMillis(6);
 
-    public VideoRepository(Context context) {
-        dao      = AppDatabase.getInstance(context).videoDao();
-        videoRef = FirebaseDatabase.getInstance().getReference("videos");
-        loadVideos();
-    }
+    private final RemoteListCache<VideoEntity> cache;
 
-    private void loadVideos() {
-        // Step 1: Serve Room cache immediately (works offline)
-        AppExecutors.db().execute(() -> {
-            List<VideoEntity> cached = dao.getAllVideos();
-            if (!cached.isEmpty()) {
-                videos.postValue(cached);
-            }
-        });
+    private static volatile VideoRepository INSTANCE;
 
-        // Step 2: Attach Firebase listener — updates cache when online
-        videoListener = new ValueEventListener() {
-            @Override
-            public void onDataChange(DataSnapshot snapshot) {
-                List<VideoEntity> fresh = new ArrayList<>();
-                for (DataSnapshot child : snapshot.getChildren()) {
-                    String videoId = child.child("videoId").getValue(String.class);
-                    String title   = child.child("title").getValue(String.class);
-                    Long   order   = child.child("order").getValue(Long.class);
-                    if (videoId != null) {
-                        String thumb = "https://img.youtube.com/vi/" + videoId + "/hqdefault.jpg";
-                        fresh.add(new VideoEntity(videoId, title, thumb,
-                                order != null ? order.intValue() : 999));
-                    }
+    // Process-wide: every ViewModel shares one cache and one listener.
+    public static VideoRepository getInstance(Context context) {
+        if (INSTANCE == null) {
+            synchronized (VideoRepository.class) {
+                if (INSTANCE == null) {
+                    INSTANCE = new VideoRepository(context.getApplicationContext());
                 }
-                fresh.sort(Comparator.comparingInt(e -> e.order));
-                AppExecutors.db().execute(() -> {
-                    dao.deleteAll();
-                    for (VideoEntity v : fresh) dao.upsert(v);
-                    videos.postValue(dao.getAllVideos());
-                });
             }
-            @Override
-            public void onCancelled(DatabaseError e) {
-                error.postValue(e.getMessage());
-            }
-        };
-        videoRef.addValueEventListener(videoListener);
+        }
+        return INSTANCE;
     }
 
-    public LiveData<List<VideoEntity>> getVideos() { return videos; }
-    public LiveData<String> getError()             { return error; }
+    private VideoRepository(Context context) {
+        VideoDao dao = AppDatabase.getInstance(context).videoDao();
+        cache = new RemoteListCache<>(context, "videos", TTL_MS,
+                VideoRepository::parse,
+                RemoteListCache.Store.of(dao::getAllVideos, fresh -> {
+                    boolean changed = dao.applyDiff(fresh);
+                    // New or changed images → warm them on the next Wi-Fi window.
+                    if (changed) ImagePrefetchWorker.enqueue(context);
+                    return changed;
+                }));
+    }
 
-    public void detachListener() {
-        if (videoListener != null) {
-            videoRef.removeEventListener(videoListener);
-            videoListener = null;
+    // /videos/{key} → { videoId, title, order }
+    private static List<VideoEntity> parse(DataSnapshot snapshot) {
+        List<VideoEntity> fresh = new ArrayList<>();
+        for (DataSnapshot child : snapshot.getChildren()) {
+            String videoId = child.child("videoId").getValue(String.class);
+            String title   = child.child("title").getValue(String.class);
+            Long   order   = child.child("order").getValue(Long.class);
+            if (videoId != null) {
+                // Size-independent default; VideoAdapter picks the rendition
+                // for the measured card (YouTubeThumbnails.forWidth()).
+                String thumb = YouTubeThumbnails.url(videoId, YouTubeThumbnails.Rendition.HQ);
+                fresh.add(new VideoEntity(videoId, title, thumb,
+                        order != null ? order.intValue() : 999));
+            }
         }
+        fresh.sort(Comparator.comparingInt(e -> e.order));
+        return fresh;
     }
+
+    // The Firebase listener follows this LiveData's active observers
+    // (see RemoteListCache) — there is nothing to detach by hand.
+    public LiveData<List<VideoEntity>> getVideos() { return cache.getData(); }
+    public LiveData<String> getError()             { return cache.getError(); }
 }
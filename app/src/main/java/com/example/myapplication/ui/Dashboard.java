@@ -16,13 +16,16 @@ import androidx.navigation.fragment.NavHostFragment;
 
 import com.example.myapplication.R;
 
+import androidx.work.BackoffPolicy;
 import androidx.work.Constraints;
 import androidx.work.ExistingPeriodicWorkPolicy;
 import androidx.work.NetworkType;
 import androidx.work.PeriodicWorkRequest;
 import androidx.work.WorkManager;
 
+import com.example.myapplication.data.repository.JournalRepository;
 import com.example.myapplication.data.repository.ProfileRepository;
+import com.example.myapplication.util.ImagePrefetchWorker;
 import com.example.myapplication.util.SyncJournalWorker;
 import java.util.concurrent.TimeUnit;
 
@@ -98,16 +101,28 @@ public class Dashboard extends AppCompatActivity implements View.OnClickListener
         PeriodicWorkRequest syncRequest =
                 new PeriodicWorkRequest.Builder(SyncJournalWorker.class, 15, TimeUnit.MINUTES)
                         .setConstraints(constraints)
+                        // Partial failure → Result.retry(): 30s, 60s, 120s, ... (capped by WorkManager)
+                        .setBackoffCriteria(BackoffPolicy.EXPONENTIAL, 30, TimeUnit.SECONDS)
+                        .addTag(SyncJournalWorker.WORK_TAG)
                         .build();
 
-        // enqueueUniquePeriodicWork with KEEP = if 'sync_journal' is already scheduled,
-        // do not replace it. This prevents duplicate workers if onCreate() runs multiple times.
+        // enqueueUniquePeriodicWork with UPDATE = if 'sync_journal' is already scheduled,
+        // keep its schedule but apply this spec (e.g. the backoff above). Like KEEP,
+        // this prevents duplicate workers if onCreate() runs multiple times.
         WorkManager.getInstance(this).enqueueUniquePeriodicWork(
-                "sync_journal",
-                ExistingPeriodicWorkPolicy.KEEP,
+                SyncJournalWorker.UNIQUE_PERIODIC,
+                ExistingPeriodicWorkPolicy.UPDATE,
                 syncRequest
         );
 
+        // Periodic sync is the safety net; this pushes pending writes as soon
+        // as the device reconnects (ConnectivityMonitor network callback).
+        JournalRepository.installReconnectFlush(this);
+
+        // Warm Hope images and video thumbnails on the next unmetered network.
+        // Cheap when nothing is new: the worker skips URLs already warm.
+        ImagePrefetchWorker.enqueue(this);
+
     }
 
 
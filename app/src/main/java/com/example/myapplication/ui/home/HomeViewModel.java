@@ -28,7 +28,7 @@ public class HomeViewModel extends AndroidViewModel {
     /**
      * Called by HomeFragment when the user taps Save.
      *
-     * Runs on a background thread via AppExecutors.db() because Room
+     * Runs on the serialized writer via AppExecutors.dbWrite() because Room
      * does not allow database operations on the main thread.
      *
      * The repository handles UUID generation, Room insert, and Firestore push.
@@ -36,7 +36,7 @@ public class HomeViewModel extends AndroidViewModel {
      * Firestore is fire-and-forget inside the repository.
      */
     public void saveEntry(String userId, String emotion, String description) {
-        AppExecutors.db().execute(() -> {
+        AppExecutors.dbWrite().execute(() -> {
             try {
                 repo.addEntry(userId, emotion, description);
                 saveStatus.postValue("saved");   // postValue = safe from background thread
@@ -15,6 +15,7 @@ import androidx.lifecycle.ViewModelProvider;
 
 import com.bumptech.glide.Glide;
 import com.example.myapplication.R;
+import com.example.myapplication.util.ImageRequests;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -61,6 +62,9 @@ public class HopeFragment extends Fragment {
         arrowRight   = view.findViewById(R.id.arrowRight);
         imageCurrent = view.findViewById(R.id.currentImage);
         heartIcon    = view.findViewById(R.id.heart);
+
+        // ImagePrefetchWorker warms images at this measured size.
+        ImageRequests.rememberSize(imageCurrent, ImageRequests.HOPE);
     }
 
     /** Wires up arrow and heart click listeners (unchanged from original). */
@@ -124,11 +128,8 @@ public class HopeFragment extends Fragment {
         imageCurrent.setAlpha(0f);
         imageCurrent.animate().alpha(1f).setDuration(300).start();
 
-        // Use Glide to load the remote image URL.
-        Glide.with(this)
-                .load(url)
-                .placeholder(R.drawable.loading_image)  // shown while loading
-                .error(R.drawable.loading_image)         // shown if load fails
-                .into(imageCurrent);
+        // Use Glide to load the remote image URL — usually a disk hit once
+        // ImagePrefetchWorker has run on Wi-Fi.
+        ImageRequests.hopeImage(Glide.with(this), url).into(imageCurrent);
     }
 }
@@ -1,7 +1,10 @@
 package com.example.myapplication.ui.hope;
 
+import android.app.Application;
+
+import androidx.annotation.NonNull;
+import androidx.lifecycle.AndroidViewModel;
 import androidx.lifecycle.LiveData;
-import androidx.lifecycle.ViewModel;
 
 import com.example.myapplication.data.repository.HopeRepository;
 
@@ -9,11 +12,17 @@ import java.util.List;
 
 /**
  * Holds and exposes hope image data across Fragment lifecycle events.
- * The Repository is created once here and survives screen rotation.
+ * The Repository is the process-wide HopeRepository singleton, shared
+ * with every other screen; this ViewModel only hands out its LiveData.
  */
-public class HopeViewModel extends ViewModel {
+public class HopeViewModel extends AndroidViewModel {
+
+    private final HopeRepository repository;
 
-    private final HopeRepository repository = new HopeRepository();
+    public HopeViewModel(@NonNull Application application) {
+        super(application);
+        repository = HopeRepository.getInstance(application);
+    }
 
     /** Returns a LiveData list of image download URLs, sorted by order. */
     public LiveData<List<String>> getImageUrls() {
@@ -16,7 +16,7 @@ public class HotlineViewModel extends AndroidViewModel {
 
     public HotlineViewModel(Application application) {
         super(application);
-        repository = new HotlineRepository(application);
+        repository = HotlineRepository.getInstance(application);
     }
 
     public LiveData<List<HotlineEntity>> getHotlines() {
@@ -26,11 +26,4 @@ public class HotlineViewModel extends AndroidViewModel {
     public LiveData<String> getError() {
         return repository.getError();
     }
-
-    @Override
-    protected void onCleared() {
-        super.onCleared();
-        repository.detachListener();
-    }
-
 }
@@ -27,6 +27,7 @@ import androidx.appcompat.app.AlertDialog;
 import com.example.myapplication.data.local.AppDatabase;
 import com.example.myapplication.data.SessionManager;
 import com.google.android.material.dialog.MaterialAlertDialogBuilder;
+import com.google.android.material.switchmaterial.SwitchMaterial;
 import com.example.myapplication.ui.MainActivity;
 
 
@@ -138,6 +139,14 @@ public class ProfileFragment extends Fragment {
         // Load profile data from Firestore
         viewModel.loadProfile();
 
+        // Live journal sync — a local preference, read by RealizationViewModel
+        // the next time a journal screen becomes visible.
+        SessionManager session = new SessionManager(requireContext());
+        SwitchMaterial switchLiveSync = view.findViewById(R.id.switchLiveSync);
+        switchLiveSync.setChecked(session.isLiveSyncEnabled());
+        switchLiveSync.setOnCheckedChangeListener((b, checked) ->
+                session.setLiveSyncEnabled(checked));
+
         // Delete button — checks internet before showing confirmation dialog
         Button btnDelete = view.findViewById(R.id.btnDeleteAccount);
         btnDelete.setOnClickListener(v -> {
@@ -30,7 +30,7 @@ public class EditEntryViewModel extends AndroidViewModel {
 
     // ── Load ─────────────────────────────────────────────────────
     public void loadEntry(long entryId) {
-        AppExecutors.db().execute(() -> {
+        AppExecutors.dbRead().execute(() -> {
             JournalEntryEntity loaded = repository.getEntry(entryId);
             entry.postValue(loaded);
         });
@@ -46,7 +46,7 @@ public class EditEntryViewModel extends AndroidViewModel {
             operationStatus.postValue("error");
             return;
         }
-        AppExecutors.db().execute(() -> {
+        AppExecutors.dbWrite().execute(() -> {
             try {
                 repository.updateEntry(current, newEmotion, newDescription);
                 operationStatus.postValue("updated");
@@ -27,10 +27,11 @@ public class EntryDetailsViewModel extends AndroidViewModel {
     /**
      * Loads a single entry by its Room primary key.
      * Must be called once from the Fragment after reading the nav arg.
-     * Uses AppExecutors.db() — Room forbids reads on the main thread.
+     * Uses AppExecutors.dbRead() — Room forbids reads on the main thread,
+     * and the reader pool never waits behind a long restore/merge write.
      */
     public void loadEntry(long entryId) {
-        AppExecutors.db().execute(() -> {
+        AppExecutors.dbRead().execute(() -> {
             JournalEntryEntity entry = repository.getEntry(entryId);
             selectedEntry.postValue(entry);
         });
@@ -47,7 +48,7 @@ public class EntryDetailsViewModel extends AndroidViewModel {
      * The Firestore delete is fire-and-forget and does not block navigation.
      */
     public void deleteEntry(@NonNull JournalEntryEntity entry) {
-        AppExecutors.db().execute(() -> {
+        AppExecutors.dbWrite().execute(() -> {
             try {
                 repository.deleteEntry(entry);
                 operationStatus.postValue("deleted");
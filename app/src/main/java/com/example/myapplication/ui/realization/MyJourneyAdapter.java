@@ -8,37 +8,34 @@ import android.widget.ImageView;
 
 
 import androidx.annotation.NonNull;
+import androidx.paging.PagingDataAdapter;
+import androidx.recyclerview.widget.DiffUtil;
 import androidx.recyclerview.widget.RecyclerView;
 
 import com.example.myapplication.R;
-import com.example.myapplication.data.local.entity.JournalEntryEntity;
+import com.example.myapplication.data.local.entity.JournalEntryRow;
 
-import java.util.ArrayList;
-import java.util.List;
+import java.util.Objects;
 
 import java.text.SimpleDateFormat;
 import java.util.Date;
 import java.util.Locale;
 
-public class MyJourneyAdapter extends RecyclerView.Adapter<MyJourneyAdapter.EntryViewHolder> {
+// PagingDataAdapter — rows arrive page by page from JournalRepository.getPagedEntries().
+public class MyJourneyAdapter
+        extends PagingDataAdapter<JournalEntryRow, MyJourneyAdapter.EntryViewHolder> {
 
-    private final List<JournalEntryEntity> entries = new ArrayList<>();
     private final OnItemClick listener;
 
     public interface OnItemClick {
-        void onClick(JournalEntryEntity entry);
+        void onClick(JournalEntryRow entry);
     }
 
     public MyJourneyAdapter(OnItemClick listener) {
+        super(DIFF_CALLBACK);
         this.listener = listener;
     }
 
-    public void submitList(List<JournalEntryEntity> newEntries) {
-        entries.clear();
-        entries.addAll(newEntries);
-        notifyDataSetChanged();
-    }
-
     @NonNull
     @Override
     public EntryViewHolder onCreateViewHolder(@NonNull ViewGroup parent, int viewType) {
@@ -49,13 +46,14 @@ public class MyJourneyAdapter extends RecyclerView.Adapter<MyJourneyAdapter.Entr
 
     @Override
     public void onBindViewHolder(@NonNull EntryViewHolder holder, int position) {
-        JournalEntryEntity entry = entries.get(position);
+        JournalEntryRow entry = getItem(position);
+        if (entry == null) return;   // placeholders are disabled, but getItem() is @Nullable
 
         // Display the emotion
         holder.imgEmotion.setImageResource(getEmotionDrawable(entry.emotion));
 
-        // Display a preview of the description
-        holder.txtPreview.setText(entry.description);
+        // Display a preview of the description (already truncated in SQL)
+        holder.txtPreview.setText(entry.preview);
 
         // Format createdAtEpochMs into a human-readable date and time.
         // new Date(epochMs) converts the long timestamp to a Java Date object.
@@ -71,11 +69,6 @@ public class MyJourneyAdapter extends RecyclerView.Adapter<MyJourneyAdapter.Entr
     }
 
 
-    @Override
-    public int getItemCount() {
-        return entries.size();
-    }
-
     static class EntryViewHolder extends RecyclerView.ViewHolder {
         ImageView imgEmotion;   // changed: was TextView txtEmotion
         TextView txtPreview;
@@ -106,4 +99,27 @@ public class MyJourneyAdapter extends RecyclerView.Adapter<MyJourneyAdapter.Entr
 
     }
 
+    // ── DiffUtil ──────────────────────────────────────────────────────
+
+    private static final DiffUtil.ItemCallback<JournalEntryRow> DIFF_CALLBACK =
+            new DiffUtil.ItemCallback<JournalEntryRow>() {
+
+                @Override
+                public boolean areItemsTheSame(
+                        @NonNull JournalEntryRow oldItem,
+                        @NonNull JournalEntryRow newItem) {
+                    return oldItem.entryId == newItem.entryId;
+                }
+
+                @Override
+                public boolean areContentsTheSame(
+                        @NonNull JournalEntryRow oldItem,
+                        @NonNull JournalEntryRow newItem) {
+                    // Only the fields the row actually shows.
+                    return Objects.equals(oldItem.emotion, newItem.emotion)
+                            && Objects.equals(oldItem.preview, newItem.preview)
+                            && oldItem.createdAtEpochMs == newItem.createdAtEpochMs;
+                }
+            };
+
 }
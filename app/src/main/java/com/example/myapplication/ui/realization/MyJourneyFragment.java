@@ -15,7 +15,7 @@ import androidx.recyclerview.widget.LinearLayoutManager;
 import androidx.recyclerview.widget.RecyclerView;
 
 import com.example.myapplication.R;
-import com.example.myapplication.data.local.entity.JournalEntryEntity;
+import com.example.myapplication.data.local.entity.JournalEntryRow;
 
 public class MyJourneyFragment extends Fragment {
 
@@ -57,20 +57,25 @@ public class MyJourneyFragment extends Fragment {
 
     private void setupViewModel() {
         // Reuse RealizationViewModel — no new ViewModel class needed.
-        // Uses the same 'entries' LiveData as RealizationFragment.
-        viewModel = new ViewModelProvider(this)
+        // Activity-scoped, so it shares the same paged list as RealizationFragment.
+        viewModel = new ViewModelProvider(requireActivity())
                 .get(RealizationViewModel.class);
 
-        // Observe entries — Fragment only reacts, never fetches.
-        viewModel.getEntries().observe(getViewLifecycleOwner(),
-                entries -> adapter.submitList(entries));
+        // Observe paged entries — Fragment only reacts, never fetches.
+        viewModel.getPagedEntries().observe(getViewLifecycleOwner(),
+                pagingData -> adapter.submitData(
+                        getViewLifecycleOwner().getLifecycle(), pagingData));
 
-        // Trigger Room read + Firestore restore.
-        // ViewModel handles all threading internally.
-        viewModel.loadEntriesWithRestore(null);
+        // Live sync (if enabled in Profile) runs only while this screen is visible.
+        viewModel.bindLiveSync(getViewLifecycleOwner());
+
+        // Trigger Firestore restore. Merged rows reach the list through
+        // Room invalidation. ViewModel handles all threading internally.
+        // Automatic, so a first full restore waits for an unmetered network.
+        viewModel.loadEntriesWithRestore(false, null);
     }
 
-    private void openEntryDetails(@NonNull JournalEntryEntity entry) {
+    private void openEntryDetails(@NonNull JournalEntryRow entry) {
         Bundle args = new Bundle();
         args.putLong("entryId", entry.entryId);
         Navigation.findNavController(requireView())
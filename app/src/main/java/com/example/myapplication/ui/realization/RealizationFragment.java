@@ -1,9 +1,10 @@
 package com.example.myapplication.ui.realization;
 
-import android.content.Context;
-import android.net.ConnectivityManager;
-import android.net.NetworkInfo;
 import android.os.Bundle;
+import android.os.Handler;
+import android.os.Looper;
+import android.text.Editable;
+import android.text.TextWatcher;
 import android.view.LayoutInflater;
 import android.view.View;
 import android.view.ViewGroup;
@@ -12,23 +13,46 @@ import android.widget.TextView;
 
 import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
+import androidx.core.util.Pair;
 import androidx.fragment.app.Fragment;
 import androidx.lifecycle.ViewModelProvider;
 import androidx.navigation.Navigation;
+import androidx.paging.LoadState;
 import androidx.recyclerview.widget.LinearLayoutManager;
 import androidx.recyclerview.widget.RecyclerView;
 
 import com.example.myapplication.R;
-import com.example.myapplication.data.local.entity.JournalEntryEntity;
+import com.example.myapplication.data.local.entity.JournalEntryRow;
+import com.example.myapplication.util.ConnectivityMonitor;
+import com.google.android.material.chip.Chip;
+import com.google.android.material.chip.ChipGroup;
+import com.google.android.material.datepicker.MaterialDatePicker;
 
 import android.widget.Toast;
 
+import java.text.SimpleDateFormat;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.Date;
+import java.util.Locale;
+
+import kotlin.Unit;
+
 public class RealizationFragment extends Fragment {
 
+    // Wait this long after the last keystroke before searching.
+    private static final long SEARCH_DEBOUNCE_MS = 250;
+    private static final long DAY_MS = 24L * 60 * 60 * 1000;
+
     private RealizationViewModel viewModel;
     private MyJourneyAdapter adapter;
     private TextView textEmptyState;
 
+    private final Handler searchHandler = new Handler(Looper.getMainLooper());
+    private Runnable pendingSearch;
+
     public RealizationFragment() {}
 
     @Override
@@ -46,17 +70,16 @@ public class RealizationFragment extends Fragment {
         textEmptyState = view.findViewById(R.id.textEmptyState);
 
 //        setupMyJourneyButton(view);
-        setupSyncButton(view);
         setupRecyclerView(view);
         setupViewModel();
+        setupSyncButton(view);
+        setupSearch(view);
     }
 
-    // Refresh the list every time the user navigates back to this screen.
-    // This picks up new entries written from the Home screen.
     @Override
-    public void onResume() {
-        super.onResume();
-        if (viewModel != null) viewModel.loadEntries();
+    public void onDestroyView() {
+        super.onDestroyView();
+        if (pendingSearch != null) searchHandler.removeCallbacks(pendingSearch);
     }
 
 //    private void setupMyJourneyButton(@NonNull View root) {
@@ -72,18 +95,32 @@ public class RealizationFragment extends Fragment {
 
         adapter = new MyJourneyAdapter(this::openEntryDetails);
         rv.setAdapter(adapter);
+
+        // Toggle empty-state message once the first page has loaded.
+        adapter.addLoadStateListener(states -> {
+            boolean loaded = states.getRefresh() instanceof LoadState.NotLoading;
+            boolean empty  = loaded && adapter.getItemCount() == 0;
+            if (empty) {
+                textEmptyState.setText(viewModel != null && viewModel.isFiltering()
+                        ? R.string.realization_no_results
+                        : R.string.realization_empty);
+            }
+            textEmptyState.setVisibility(empty ? View.VISIBLE : View.GONE);
+            return Unit.INSTANCE;
+        });
     }
 
     private void setupViewModel() {
-        viewModel = new ViewModelProvider(this).get(RealizationViewModel.class);
+        // Activity-scoped: the cached pages survive tab switches, so coming
+        // back to Realization replays them instead of re-querying Room.
+        // New entries from Home arrive through Room invalidation.
+        viewModel = new ViewModelProvider(requireActivity()).get(RealizationViewModel.class);
 
-        viewModel.getEntries().observe(getViewLifecycleOwner(), entries -> {
-            adapter.submitList(entries);
+        viewModel.getPagedEntries().observe(getViewLifecycleOwner(), pagingData ->
+                adapter.submitData(getViewLifecycleOwner().getLifecycle(), pagingData));
 
-            // Toggle empty-state message
-            textEmptyState.setVisibility(
-                    entries == null || entries.isEmpty() ? View.VISIBLE : View.GONE);
-        });
+        // Live sync (if enabled in Profile) runs only while this screen is visible.
+        viewModel.bindLiveSync(getViewLifecycleOwner());
 
         // observe toast messages from the ViewModel
         viewModel.getToastMessage().observe(getViewLifecycleOwner(), message -> {
@@ -95,33 +132,134 @@ public class RealizationFragment extends Fragment {
 
     }
 
+    // ── Search ────────────────────────────────────────────────────
+    // Search box → FTS query (debounced); emotion chips → single emotion
+    // filter; date chip → MaterialDatePicker range. All go to the ViewModel,
+    // which swaps the paged list for ranked search results.
+    private void setupSearch(@NonNull View root) {
+        TextView  inputSearch = root.findViewById(R.id.inputSearch);
+        ChipGroup emotions    = root.findViewById(R.id.chipGroupEmotion);
+        Chip      chipDates   = root.findViewById(R.id.chipDateRange);
+
+        // Restore the view from the (activity-scoped) ViewModel first,
+        // so the listeners below see no change and do not re-query.
+        RealizationViewModel.SearchFilter current = viewModel.getFilter();
+        if (current.query != null) inputSearch.setText(current.query);
+        int chipId = chipIdForEmotion(current.emotion);
+        if (chipId != View.NO_ID) emotions.check(chipId);
+        showDateRange(chipDates, current.dateRange);
+
+        inputSearch.addTextChangedListener(new TextWatcher() {
+            @Override public void beforeTextChanged(CharSequence s, int st, int c, int a) {}
+            @Override public void onTextChanged(CharSequence s, int st, int b, int c) {}
+
+            @Override
+            public void afterTextChanged(Editable s) {
+                if (pendingSearch != null) searchHandler.removeCallbacks(pendingSearch);
+                String query = s.toString();
+                pendingSearch = () -> viewModel.setSearchQuery(query);
+                searchHandler.postDelayed(pendingSearch, SEARCH_DEBOUNCE_MS);
+            }
+        });
+
+        emotions.setOnCheckedStateChangeListener((group, checkedIds) ->
+                viewModel.setEmotionFilter(checkedIds.isEmpty()
+                        ? null : emotionForChipId(checkedIds.get(0))));
+
+        chipDates.setOnClickListener(v -> {
+            MaterialDatePicker<Pair<Long, Long>> picker =
+                    MaterialDatePicker.Builder.dateRangePicker().build();
+            picker.addOnPositiveButtonClickListener(selection -> {
+                if (selection == null || selection.first == null
+                        || selection.second == null) return;
+                // The picker returns UTC midnight of each picked day, but
+                // createdAtEpochMs is a real instant — query from the start of
+                // the first day to the end of the last day in the user's zone.
+                Pair<Long, Long> range = Pair.create(
+                        localStartOfDay(selection.first),
+                        localStartOfDay(selection.second + DAY_MS) - 1);
+                viewModel.setDateRange(range);
+                showDateRange(chipDates, range);
+            });
+            picker.show(getParentFragmentManager(), "journal_date_range");
+        });
+
+        chipDates.setOnCloseIconClickListener(v -> {
+            viewModel.setDateRange(null);
+            showDateRange(chipDates, null);
+        });
+    }
+
+    // Picker value (UTC midnight of a calendar day) → start of that same
+    // calendar day in the device's time zone.
+    private static long localStartOfDay(long utcMidnightEpochMs) {
+        LocalDate day = Instant.ofEpochMilli(utcMidnightEpochMs)
+                .atZone(ZoneOffset.UTC).toLocalDate();
+        return day.atStartOfDay(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+
+    private void showDateRange(@NonNull Chip chip, @Nullable Pair<Long, Long> range) {
+        if (range == null || range.first == null || range.second == null) {
+            chip.setText(R.string.realization_filter_any_date);
+            chip.setCloseIconVisible(false);
+            return;
+        }
+        // Bounds are local instants (see localStartOfDay()) — format in the device zone.
+        SimpleDateFormat sdf = new SimpleDateFormat("MMM dd", Locale.getDefault());
+        chip.setText(sdf.format(new Date(range.first))
+                + " – " + sdf.format(new Date(range.second)));
+        chip.setCloseIconVisible(true);
+    }
+
+    // Emotion keys match the values stored in JournalEntryEntity.emotion.
+    @Nullable
+    private static String emotionForChipId(int chipId) {
+        if (chipId == R.id.chipHappy)     return "happy";
+        if (chipId == R.id.chipSad)       return "sad";
+        if (chipId == R.id.chipPressured) return "pressured";
+        if (chipId == R.id.chipAngry)     return "angry";
+        return null;
+    }
+
+    private static int chipIdForEmotion(@Nullable String emotion) {
+        if (emotion == null) return View.NO_ID;
+        switch (emotion) {
+            case "happy":     return R.id.chipHappy;
+            case "sad":       return R.id.chipSad;
+            case "pressured": return R.id.chipPressured;
+            case "angry":     return R.id.chipAngry;
+            default:          return View.NO_ID;
+        }
+    }
+
     private void setupSyncButton(@NonNull View root) {
         Button btn = root.findViewById(R.id.button);
         btn.setOnClickListener(v -> {
 
             // Check for an active internet connection before attempting sync.
-            ConnectivityManager cm = (ConnectivityManager)
-                    requireContext().getSystemService(Context.CONNECTIVITY_SERVICE);
-            NetworkInfo netInfo = cm.getActiveNetworkInfo();
-
-            if (netInfo == null || !netInfo.isConnected()) {
+            if (!ConnectivityMonitor.getInstance(requireContext()).isOnline()) {
                 Toast.makeText(requireContext(),
                         "No internet connection.",
                         Toast.LENGTH_SHORT).show();
                 return; // abort — button stays enabled, cached list stays visible
             }
 
-            btn.setEnabled(false);
-            btn.setText("Syncing...");
-            viewModel.loadEntriesWithRestore(() -> {
-                btn.setEnabled(true);
-                btn.setText("Sync");
-            });
+            viewModel.loadEntriesWithRestore(true, null);
+        });
+
+        // Button state follows the ViewModel's restore progress, so it stays
+        // right across rotation: null = idle, otherwise documents merged so far
+        // (the streamed restore reports after every page).
+        viewModel.getRestoreProgress().observe(getViewLifecycleOwner(), count -> {
+            btn.setEnabled(count == null);
+            if (count == null)  btn.setText("Sync");
+            else if (count == 0) btn.setText("Syncing...");
+            else btn.setText(getString(R.string.realization_syncing_progress, count));
         });
     }
 
 
-    private void openEntryDetails(@NonNull JournalEntryEntity entry) {
+    private void openEntryDetails(@NonNull JournalEntryRow entry) {
         Bundle args = new Bundle();
         args.putLong("entryId", entry.entryId);
         Navigation.findNavController(requireView())
@@ -2,22 +2,50 @@ package com.example.myapplication.ui.realization;
 
 import android.app.Application;
 import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.core.util.Pair;
 import androidx.lifecycle.AndroidViewModel;
+import androidx.lifecycle.DefaultLifecycleObserver;
+import androidx.lifecycle.LifecycleOwner;
 import androidx.lifecycle.LiveData;
 import androidx.lifecycle.MutableLiveData;
+import androidx.lifecycle.Transformations;
+import androidx.lifecycle.ViewModelKt;
+import androidx.paging.PagingData;
+import androidx.paging.PagingLiveData;
 
 import com.example.myapplication.data.SessionManager;
-import com.example.myapplication.data.local.AppExecutors;
-import com.example.myapplication.data.local.entity.JournalEntryEntity;
+import com.example.myapplication.data.local.entity.JournalEntryRow;
+import com.example.myapplication.data.remote.RemoteJournalStore;
 import com.example.myapplication.data.repository.JournalRepository;
 
-import java.util.Collections;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Objects;
 
 public class RealizationViewModel extends AndroidViewModel {
 
-    private final MutableLiveData<List<JournalEntryEntity>> entries =
-            new MutableLiveData<>(Collections.emptyList());
+    // Paged journal list, newest first. cachedIn() keeps the loaded pages
+    // across rotation so the list is not re-queried from page 1.
+    // The list is invalidation-driven — Room re-runs the query only when
+    // journal_entries changes, so there is no manual loadEntries() anymore.
+    // Switches between the plain list and search results whenever the
+    // search box or a filter changes.
+    private final LiveData<PagingData<JournalEntryRow>> pagedEntries;
+    private final MutableLiveData<SearchFilter> filter =
+            new MutableLiveData<>(SearchFilter.NONE);
+
+    // Live sync (opt-in, see SessionManager): one snapshot listener shared by
+    // every visible journal screen. Counted so switching between
+    // RealizationFragment and MyJourneyFragment never re-attaches it.
+    private int liveSyncUsers;
+    @Nullable private RemoteJournalStore.Subscription liveSync;
+
+    // Documents processed by the running restore; null when none is running.
+    private final MutableLiveData<Integer> restoreProgress = new MutableLiveData<>();
+    // onComplete of every caller waiting on the running restore; null when
+    // none is running. Main thread only.
+    @Nullable private List<Runnable> restoreWaiters;
 
     private final MutableLiveData<String> toastMessage = new MutableLiveData<>();
     private final JournalRepository repository;
@@ -27,58 +55,127 @@ public class RealizationViewModel extends AndroidViewModel {
         super(app);
         repository = new JournalRepository(app);
         session    = new SessionManager(app);
-        loadEntries();
+
+        String userId = session.getLoggedInUserId();
+        if (userId == null) {
+            pagedEntries = new MutableLiveData<>(PagingData.empty());
+        } else {
+            pagedEntries = PagingLiveData.cachedIn(
+                    Transformations.switchMap(filter, f -> f.isEmpty()
+                            ? repository.getPagedEntries(userId)
+                            : repository.search(userId, f.query, f.emotion, f.dateRange)),
+                    ViewModelKt.getViewModelScope(this));
+        }
     }
 
-    // Fast Room-only read — called by RealizationFragment on every onResume()
-    public void loadEntries() {
+    // Firestore restore — called by the Sync button and by MyJourneyFragment on open.
+    // Restored rows reach the list through Room invalidation, page by page;
+    // progress and onComplete run on the main thread so the Fragment can
+    // update and re-enable the button.
+    // userInitiated = false lets the repository hold a full restore back
+    // until Wi-Fi; an explicit tap on Sync always runs.
+    // One restore at a time: a request while one is running (pull-to-refresh
+    // during the startup restore) joins it instead of starting a second run
+    // that would clear the progress while the first is still going.
+    public void loadEntriesWithRestore(boolean userInitiated, Runnable onComplete) {
         String userId = session.getLoggedInUserId();
         if (userId == null) return;
 
-        AppExecutors.db().execute(() -> {
-            List<JournalEntryEntity> list = repository.listEntries(userId);
-            entries.postValue(list);   // postValue is safe from background thread
+        if (restoreWaiters != null) {
+            if (onComplete != null) restoreWaiters.add(onComplete);
+            return;
+        }
+        restoreWaiters = new ArrayList<>();
+        if (onComplete != null) restoreWaiters.add(onComplete);
+
+        restoreProgress.setValue(0);
+        repository.restoreFromFirestore(userId, userInitiated, restoreProgress::setValue, () -> {
+            List<Runnable> waiters = restoreWaiters;
+            restoreWaiters = null;
+            restoreProgress.setValue(null);
+            for (Runnable r : waiters) r.run();
         });
     }
-    // Room + Firestore restore — called by MyJourneyFragment on open
-    // ── Used by MyJourneyFragment (Room + Firestore restore) ──────────────
-// Step 1: Post Room entries immediately — list is not blank while restore runs.
-// Step 2: Pull any Firestore entries missing from Room.
-// Step 3: Re-query Room after restore and post the refreshed list.
-//
-// Uses the same 'entries' LiveData as loadEntries() so both
-// RealizationFragment and MyJourneyFragment observe the same dataset.
-    public void loadEntriesWithRestore(Runnable onComplete) {
+
+    public LiveData<Integer> getRestoreProgress() {
+        return restoreProgress;
+    }
+
+
+    public LiveData<PagingData<JournalEntryRow>> getPagedEntries() {
+        return pagedEntries;
+    }
+
+    // ── Live sync ────────────────────────────────────────────────
+    // Fragments bind their view lifecycle: the listener is attached while at
+    // least one journal screen is started, and detached as soon as the last
+    // one stops (app backgrounded, or navigated away).
+    public void bindLiveSync(@NonNull LifecycleOwner owner) {
+        owner.getLifecycle().addObserver(new DefaultLifecycleObserver() {
+            @Override
+            public void onStart(@NonNull LifecycleOwner o) {
+                acquireLiveSync();
+            }
+
+            @Override
+            public void onStop(@NonNull LifecycleOwner o) {
+                releaseLiveSync();
+            }
+        });
+    }
+
+    private void acquireLiveSync() {
+        liveSyncUsers++;
+        if (liveSync != null || !session.isLiveSyncEnabled()) return;
         String userId = session.getLoggedInUserId();
-        if (userId == null) return;
+        if (userId != null) liveSync = repository.startLiveSync(userId);
+    }
 
-        AppExecutors.db().execute(() -> {
+    private void releaseLiveSync() {
+        if (liveSyncUsers > 0) liveSyncUsers--;
+        if (liveSyncUsers == 0 && liveSync != null) {
+            liveSync.remove();
+            liveSync = null;
+        }
+    }
 
-            // Step 1
-            List<JournalEntryEntity> local = repository.listEntries(userId);
-            entries.postValue(local);
+    @Override
+    protected void onCleared() {
+        if (liveSync != null) liveSync.remove();
+        liveSync = null;
+    }
 
-            // Step 2
-            repository.restoreFromFirestore(userId, () -> {
+    // ── Search & filters ─────────────────────────────────────────
+    // Each setter is a no-op when nothing changed, so re-typing the same
+    // text or re-tapping the same chip never re-runs the query.
+    public void setSearchQuery(@Nullable String query) {
+        updateFilter(current().withQuery(query));
+    }
 
-                // Step 3
-                AppExecutors.db().execute(() -> {
-                    List<JournalEntryEntity> restored = repository.listEntries(userId);
-                    entries.postValue(restored);
+    public void setEmotionFilter(@Nullable String emotion) {
+        updateFilter(current().withEmotion(emotion));
+    }
 
-                    // Notify caller on main thread so Fragment can re-enable the button
-                    if (onComplete != null) {
-                        new android.os.Handler(android.os.Looper.getMainLooper())
-                                .post(onComplete);
-                    }
-                });
-            });
-        });
+    public void setDateRange(@Nullable Pair<Long, Long> dateRange) {
+        updateFilter(current().withDateRange(dateRange));
+    }
+
+    public boolean isFiltering() {
+        return !current().isEmpty();
+    }
+
+    // Current filter, so a recreated view can restore its search box and chips.
+    SearchFilter getFilter() {
+        return current();
     }
 
+    private SearchFilter current() {
+        SearchFilter f = filter.getValue();
+        return f != null ? f : SearchFilter.NONE;
+    }
 
-    public LiveData<List<JournalEntryEntity>> getEntries() {
-        return entries;
+    private void updateFilter(SearchFilter next) {
+        if (!next.equals(current())) filter.setValue(next);
     }
 
     public LiveData<String> getToastMessage() {
@@ -90,4 +187,43 @@ public class RealizationViewModel extends AndroidViewModel {
     public void clearToast() {
         toastMessage.setValue(null);
     }
+
+    // ─── Immutable search state ─────────────────────────────────────
+    static final class SearchFilter {
+        static final SearchFilter NONE = new SearchFilter(null, null, null);
+
+        @Nullable final String query;
+        @Nullable final String emotion;
+        @Nullable final Pair<Long, Long> dateRange;
+
+        private SearchFilter(@Nullable String query, @Nullable String emotion,
+                             @Nullable Pair<Long, Long> dateRange) {
+            this.query     = (query != null && !query.trim().isEmpty()) ? query.trim() : null;
+            this.emotion   = emotion;
+            this.dateRange = dateRange;
+        }
+
+        SearchFilter withQuery(@Nullable String q)              { return new SearchFilter(q, emotion, dateRange); }
+        SearchFilter withEmotion(@Nullable String e)            { return new SearchFilter(query, e, dateRange); }
+        SearchFilter withDateRange(@Nullable Pair<Long, Long> r) { return new SearchFilter(query, emotion, r); }
+
+        boolean isEmpty() {
+            return query == null && emotion == null && dateRange == null;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof SearchFilter)) return false;
+            SearchFilter other = (SearchFilter) o;
+            return Objects.equals(query, other.query)
+                    && Objects.equals(emotion, other.emotion)
+                    && Objects.equals(dateRange, other.dateRange);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(query, emotion, dateRange);
+        }
+    }
 }
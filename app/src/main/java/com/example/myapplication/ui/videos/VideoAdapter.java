@@ -1,6 +1,8 @@
 package com.example.myapplication.ui.videos;
 
+import android.content.Context;
 import android.content.Intent;
+import android.graphics.drawable.Drawable;
 import android.net.Uri;
 import android.view.LayoutInflater;
 import android.view.View;
@@ -10,14 +12,22 @@ import android.widget.TextView;
 import android.widget.Toast;
 
 import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
 import androidx.recyclerview.widget.DiffUtil;
 import androidx.recyclerview.widget.ListAdapter;
 import androidx.recyclerview.widget.RecyclerView;
 
-import com.bumptech.glide.Glide;
+import com.bumptech.glide.ListPreloader;
+import com.bumptech.glide.RequestBuilder;
+import com.bumptech.glide.RequestManager;
+import com.bumptech.glide.util.ViewPreloadSizeProvider;
 import com.example.myapplication.R;
 import com.example.myapplication.data.local.entity.VideoEntity;
+import com.example.myapplication.util.ImageRequests;
+import com.example.myapplication.util.YouTubeThumbnails;
 
+import java.util.Collections;
+import java.util.List;
 import java.util.Objects;
 
 /**
@@ -27,19 +37,53 @@ import java.util.Objects;
  * Each card displays a YouTube thumbnail (loaded via Glide with a local
  * placeholder) and a title. Tapping the entire card opens the video in
  * the YouTube app, falling back to the default browser if not installed.
+ *
+ * Also the PreloadModelProvider for VideosFragment's RecyclerViewPreloader:
+ * preloads build the exact request onBindViewHolder() will make, so a
+ * preloaded thumbnail is a memory-cache hit when its card binds.
  */
-public class VideoAdapter extends ListAdapter<VideoEntity, VideoAdapter.VideoViewHolder> {
-
-    public VideoAdapter() {
+public class VideoAdapter extends ListAdapter<VideoEntity, VideoAdapter.VideoViewHolder>
+        implements ListPreloader.PreloadModelProvider<VideoEntity> {
+
+    private final RequestManager glide;
+    private final ViewPreloadSizeProvider<VideoEntity> preloadSizes;
+
+    // Card thumbnail width that picks the YouTube rendition: the one
+    // remembered for this orientation, else the first card laid out here.
+    // Read once, so binding and preloading never touch SharedPreferences.
+    private int thumbWidthPx;
+    // RecyclerView width, until then.
+    private int fallbackWidthPx;
+    private boolean sizeWatched;
+
+    public VideoAdapter(@NonNull Context context, @NonNull RequestManager glide,
+                        @NonNull ViewPreloadSizeProvider<VideoEntity> preloadSizes) {
         super(DIFF_CALLBACK);
+        this.glide        = glide;
+        this.preloadSizes = preloadSizes;
+        int[] size = ImageRequests.rememberedSize(context, ImageRequests.VIDEO_THUMBNAIL);
+        this.thumbWidthPx = size != null ? size[0] : 0;
     }
 
     @NonNull
     @Override
     public VideoViewHolder onCreateViewHolder(@NonNull ViewGroup parent, int viewType) {
+        if (fallbackWidthPx == 0) fallbackWidthPx = parent.getWidth();
         View v = LayoutInflater.from(parent.getContext())
                 .inflate(R.layout.item_video, parent, false);
-        return new VideoViewHolder(v);
+        VideoViewHolder holder = new VideoViewHolder(v);
+        // Every card has the same size — one view is enough to measure.
+        preloadSizes.setView(holder.thumbnail);
+        if (!sizeWatched) {
+            sizeWatched = true;
+            // ImagePrefetchWorker warms thumbnails at this measured size
+            // (written only when it changes).
+            ImageRequests.rememberSize(holder.thumbnail, ImageRequests.VIDEO_THUMBNAIL);
+            holder.thumbnail.addOnLayoutChangeListener((t, l, top, r, b, ol, ot, or, ob) -> {
+                if (thumbWidthPx == 0 && r > l) thumbWidthPx = r - l;
+            });
+        }
+        return holder;
     }
 
     @Override
@@ -52,18 +96,41 @@ public class VideoAdapter extends ListAdapter<VideoEntity, VideoAdapter.VideoVie
         // Load thumbnail from YouTube's image CDN via Glide.
         // - placeholder: shown instantly from local drawable (works offline)
         // - error: same placeholder shown if the URL fails to load
-        // - Glide disk-caches the thumbnail automatically after first load
-        Glide.with(holder.itemView.getContext())
-                .load(video.thumbnailUrl)
-                .placeholder(R.drawable.video)
-                .error(R.drawable.video)
-                .centerCrop()
-                .into(holder.thumbnail);
+        // - Glide disk-caches the thumbnail automatically after first load,
+        //   and ImagePrefetchWorker may already have put it there
+        // - smallest YouTube rendition that covers the card at this density
+        // - often already in memory (RecyclerViewPreloader in VideosFragment)
+        thumbnailRequest(video).into(holder.thumbnail);
 
         // The entire card is the click target — not just the play icon.
         holder.itemView.setOnClickListener(v -> openVideo(v, video.videoId));
     }
 
+    // Shared by binding and preloading — same URL and options, same cache key.
+    // The remembered width is preferred over the holder's own so every card
+    // (and ImagePrefetchWorker) asks for the same URL — one download each.
+    private RequestBuilder<Drawable> thumbnailRequest(@NonNull VideoEntity video) {
+        String url = YouTubeThumbnails.forWidth(video.videoId,
+                thumbWidthPx > 0 ? thumbWidthPx : fallbackWidthPx);
+        return ImageRequests.videoThumbnail(glide, url);
+    }
+
+    // ── Preloading ────────────────────────────────────────────────────
+
+    @NonNull
+    @Override
+    public List<VideoEntity> getPreloadItems(int position) {
+        // The preloader walks positions past either end of the list.
+        if (position < 0 || position >= getItemCount()) return Collections.emptyList();
+        return Collections.singletonList(getItem(position));
+    }
+
+    @Nullable
+    @Override
+    public RequestBuilder<Drawable> getPreloadRequestBuilder(@NonNull VideoEntity video) {
+        return thumbnailRequest(video);
+    }
+
     /**
      * Attempts to open the video in the YouTube app.
      * Falls back to the default browser if YouTube is not installed.
@@ -16,7 +16,7 @@ public class VideoViewModel extends AndroidViewModel {
 
     public VideoViewModel(Application application) {
         super(application);
-        repository = new VideoRepository(application);
+        repository = VideoRepository.getInstance(application);
     }
 
     public LiveData<List<VideoEntity>> getVideos() {
@@ -26,10 +26,4 @@ public class VideoViewModel extends AndroidViewModel {
     public LiveData<String> getError() {
         return repository.getError();
     }
-
-    @Override
-    protected void onCleared() {
-        super.onCleared();
-        repository.detachListener();  // prevent Firebase memory leak
-    }
 }
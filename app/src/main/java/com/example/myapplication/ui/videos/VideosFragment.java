@@ -12,7 +12,12 @@ import androidx.fragment.app.Fragment;
 import androidx.lifecycle.ViewModelProvider;
 import androidx.recyclerview.widget.RecyclerView;
 
+import com.bumptech.glide.Glide;
+import com.bumptech.glide.RequestManager;
+import com.bumptech.glide.integration.recyclerview.RecyclerViewPreloader;
+import com.bumptech.glide.util.ViewPreloadSizeProvider;
 import com.example.myapplication.R;
+import com.example.myapplication.data.local.entity.VideoEntity;
 
 /**
  * VideosFragment displays a dynamic list of YouTube videos loaded from
@@ -27,6 +32,7 @@ public class VideosFragment extends Fragment {
     private VideoAdapter   adapter;
     private View emptyState;
     private RecyclerView recycler;
+    private RequestManager glide;
 
     /**
      * Required empty public constructor.
@@ -55,8 +61,25 @@ public class VideosFragment extends Fragment {
      */
     private void setupRecyclerView(@NonNull View view) {
         recycler = view.findViewById(R.id.recyclerVideos);
-        adapter = new VideoAdapter();
+        glide    = Glide.with(this);
+
+        // Sized from the first card's thumbnail view in THIS layout, so the
+        // preloads match what binding requests — in the portrait list and in
+        // the landscape grid alike.
+        ViewPreloadSizeProvider<VideoEntity> sizes = new ViewPreloadSizeProvider<>();
+        adapter  = new VideoAdapter(requireContext(), glide, sizes);
         recycler.setAdapter(adapter);
+        installPreloader(sizes);
+    }
+
+    /**
+     * Prefetches the next few thumbnails in the scroll direction into
+     * memory, at the card's size, so they are ready before the card scrolls
+     * in. Look-ahead: R.integer.videos_preload_ahead.
+     */
+    private void installPreloader(@NonNull ViewPreloadSizeProvider<VideoEntity> sizes) {
+        int ahead = getResources().getInteger(R.integer.videos_preload_ahead);
+        recycler.addOnScrollListener(new RecyclerViewPreloader<>(glide, adapter, sizes, ahead));
     }
 
     /**
@@ -0,0 +1,131 @@
+package com.example.myapplication.util;
+
+import android.content.Context;
+import android.net.ConnectivityManager;
+import android.net.Network;
+import android.net.NetworkCapabilities;
+import android.util.Log;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.lifecycle.LiveData;
+import androidx.lifecycle.MutableLiveData;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Process-wide view of the default network, pushed by a
+ * ConnectivityManager.NetworkCallback instead of polled.
+ *
+ * UI observes getState() (LiveData); background code reads current() or
+ * registers a Listener, which is called on the ConnectivityManager thread
+ * for every state transition. Work that should not burn mobile data
+ * (full restores, image prefetches) is a WorkManager request with an
+ * UNMETERED constraint instead, so it survives the process.
+ */
+public final class ConnectivityMonitor {
+
+    private static final String TAG = "ConnectivityMonitor";
+
+    public enum State {
+        OFFLINE,
+        METERED,     // cellular, metered hotspot, ...
+        UNMETERED    // typically Wi-Fi / Ethernet
+    }
+
+    public interface Listener {
+        void onStateChanged(@NonNull State previous, @NonNull State current);
+    }
+
+    private static volatile ConnectivityMonitor INSTANCE;
+
+    private final MutableLiveData<State> state = new MutableLiveData<>();
+    private final List<Listener> listeners = new CopyOnWriteArrayList<>();
+    private volatile State current;
+
+    public static ConnectivityMonitor getInstance(Context context) {
+        if (INSTANCE == null) {
+            synchronized (ConnectivityMonitor.class) {
+                if (INSTANCE == null) {
+                    INSTANCE = new ConnectivityMonitor(context.getApplicationContext());
+                }
+            }
+        }
+        return INSTANCE;
+    }
+
+    private ConnectivityMonitor(Context app) {
+        ConnectivityManager cm = (ConnectivityManager)
+                app.getSystemService(Context.CONNECTIVITY_SERVICE);
+
+        // Seed synchronously so current() is right before the first callback.
+        Network active = cm.getActiveNetwork();
+        current = stateOf(active != null ? cm.getNetworkCapabilities(active) : null);
+        state.postValue(current);
+
+        // The default network follows whatever the system routes app traffic
+        // over, so a Wi-Fi → cellular hand-over shows up as METERED, not OFFLINE.
+        cm.registerDefaultNetworkCallback(new ConnectivityManager.NetworkCallback() {
+            @Override
+            public void onCapabilitiesChanged(@NonNull Network network,
+                                              @NonNull NetworkCapabilities caps) {
+                update(stateOf(caps));
+            }
+
+            @Override
+            public void onLost(@NonNull Network network) {
+                update(State.OFFLINE);
+            }
+        });
+    }
+
+    // ── Queries ──────────────────────────────────────────────────────
+
+    public LiveData<State> getState() {
+        return state;
+    }
+
+    @NonNull
+    public State current() {
+        return current;
+    }
+
+    public boolean isOnline() {
+        return current != State.OFFLINE;
+    }
+
+    public boolean isUnmetered() {
+        return current == State.UNMETERED;
+    }
+
+    // ── Callbacks ────────────────────────────────────────────────────
+
+    public void addListener(@NonNull Listener listener) {
+        listeners.add(listener);
+    }
+
+    public void removeListener(@NonNull Listener listener) {
+        listeners.remove(listener);
+    }
+
+    // ── Internals ────────────────────────────────────────────────────
+
+    private void update(State next) {
+        State previous = current;
+        if (next == previous) return;   // capability churn within the same state
+        current = next;
+        state.postValue(next);
+        Log.d(TAG, previous + " → " + next);
+
+        for (Listener l : listeners) l.onStateChanged(previous, next);
+    }
+
+    private static State stateOf(@Nullable NetworkCapabilities caps) {
+        if (caps == null || !caps.hasCapability(NetworkCapabilities.NET_CAPABILITY_INTERNET)) {
+            return State.OFFLINE;
+        }
+        return caps.hasCapability(NetworkCapabilities.NET_CAPABILITY_NOT_METERED)
+                ? State.UNMETERED : State.METERED;
+    }
+}
@@ -0,0 +1,193 @@
+package com.example.myapplication.util;
+
+import android.content.Context;
+import android.content.SharedPreferences;
+import android.graphics.drawable.Drawable;
+import android.util.Log;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.work.Constraints;
+import androidx.work.ExistingWorkPolicy;
+import androidx.work.NetworkType;
+import androidx.work.OneTimeWorkRequest;
+import androidx.work.WorkManager;
+import androidx.work.Worker;
+import androidx.work.WorkerParameters;
+
+import com.bumptech.glide.Glide;
+import com.bumptech.glide.RequestBuilder;
+import com.bumptech.glide.RequestManager;
+import com.bumptech.glide.load.engine.DiskCacheStrategy;
+import com.bumptech.glide.request.FutureTarget;
+import com.example.myapplication.data.local.AppDatabase;
+import com.example.myapplication.data.local.entity.HopeImageEntity;
+import com.example.myapplication.data.local.entity.VideoEntity;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.function.BiFunction;
+
+/**
+ * Warms Glide's disk cache with the Hope images and video thumbnails
+ * already cached in Room, so swiping and scrolling never wait on the
+ * network and the first offline visit shows real images.
+ *
+ * Runs only on an unmetered network with a healthy battery. Each image is
+ * loaded through the same ImageRequests spec the screen uses, at the size
+ * that screen last measured — once for each orientation it has been seen
+ * in, as the size and transform differ. Until a screen has been laid out
+ * once, its images are fetched as source data only (still no network at
+ * display time, just a decode).
+ *
+ * URLs warmed at a given size are remembered, so a repeat run only fetches
+ * what is new since the last one. Enqueued from Dashboard and whenever a
+ * content refresh changes the stored lists.
+ */
+public class ImagePrefetchWorker extends Worker {
+
+    private static final String TAG = "ImagePrefetchWorker";
+
+    public static final String UNIQUE_WORK = "prefetch_images";
+
+    private static final String PREFS    = "image_prefetch";
+    private static final String KEY_WARM = "warm";
+
+    public ImagePrefetchWorker(@NonNull Context context,
+                               @NonNull WorkerParameters params) {
+        super(context, params);
+    }
+
+    // KEEP: a run already waiting for Wi-Fi reads Room when it starts,
+    // so it picks up whatever changed in the meantime.
+    public static void enqueue(Context context) {
+        Constraints constraints = new Constraints.Builder()
+                .setRequiredNetworkType(NetworkType.UNMETERED)
+                .setRequiresBatteryNotLow(true)
+                .build();
+
+        OneTimeWorkRequest request = new OneTimeWorkRequest.Builder(ImagePrefetchWorker.class)
+                .setConstraints(constraints)
+                .build();
+
+        WorkManager.getInstance(context).enqueueUniqueWork(
+                UNIQUE_WORK, ExistingWorkPolicy.KEEP, request);
+    }
+
+    @NonNull
+    @Override
+    public Result doWork() {
+        Context context = getApplicationContext();
+        AppDatabase db = AppDatabase.getInstance(context);
+
+        // Step 1: Collect the targets from Room — the lists the screens render.
+        List<String> hopeUrls = new ArrayList<>();
+        for (HopeImageEntity h : db.hopeImageDao().getAll()) hopeUrls.add(h.url);
+        List<VideoEntity> videos = db.videoDao().getAllVideos();
+
+        // Step 2: Warm everything not already warm, per orientation.
+        SharedPreferences prefs = context.getSharedPreferences(PREFS, Context.MODE_PRIVATE);
+        Set<String> warm = new HashSet<>(prefs.getStringSet(KEY_WARM, new HashSet<>()));
+        Set<String> stillWanted = new HashSet<>();
+        RequestManager glide = Glide.with(context);
+
+        int fetched = 0, failed = 0;
+        try {
+            for (int orientation : ImageRequests.ORIENTATIONS) {
+                int[] a = prefetch(glide, ImageRequests.HOPE, orientation, hopeUrls,
+                        (g, url) -> ImageRequests.hopeImage(g, url, orientation),
+                        warm, stillWanted);
+
+                // Thumbnails at the rendition VideoAdapter picks for the measured card.
+                int[] thumbSize = ImageRequests.rememberedSize(
+                        context, ImageRequests.VIDEO_THUMBNAIL, orientation);
+                List<String> thumbUrls = new ArrayList<>(videos.size());
+                for (VideoEntity v : videos) {
+                    thumbUrls.add(YouTubeThumbnails.forWidth(
+                            v.videoId, thumbSize != null ? thumbSize[0] : 0));
+                }
+                int[] b = prefetch(glide, ImageRequests.VIDEO_THUMBNAIL, orientation, thumbUrls,
+                        ImageRequests::videoThumbnail, warm, stillWanted);
+                fetched += a[0] + b[0];
+                failed  += a[1] + b[1];
+            }
+        } catch (InterruptedException e) {
+            // Wi-Fi lost or the system stopped us. Record what finished, but
+            // prune nothing — 'stillWanted' only covers the URLs reached so far.
+            Thread.currentThread().interrupt();
+            prefs.edit().putStringSet(KEY_WARM, warm).apply();
+            return Result.retry();
+        }
+
+        // Step 3: Forget URLs that left the lists (or were warmed at an old size).
+        saveWarm(prefs, warm, stillWanted);
+
+        Log.d(TAG, "Prefetched " + fetched + " images, " + failed + " failed, "
+                + stillWanted.size() + " wanted");
+
+        // Failures stay cold and are retried by the next run.
+        return Result.success();
+    }
+
+    // Returns {fetched, failed}. Every key of this run goes into 'wanted';
+    // successfully loaded ones into 'warm'.
+    private int[] prefetch(RequestManager glide, String kind, int orientation, List<String> urls,
+                           BiFunction<RequestManager, String, RequestBuilder<Drawable>> spec,
+                           Set<String> warm, Set<String> wanted) throws InterruptedException {
+        int[] size = ImageRequests.rememberedSize(getApplicationContext(), kind, orientation);
+        int fetched = 0, failed = 0;
+
+        for (String url : urls) {
+            if (isStopped()) throw new InterruptedException();
+
+            String key = warmKey(kind, orientation, size, url);
+            wanted.add(key);
+            if (warm.contains(key)) continue;
+
+            if (load(glide, spec, url, size)) {
+                warm.add(key);
+                fetched++;
+            } else {
+                failed++;
+            }
+        }
+        return new int[] { fetched, failed };
+    }
+
+    // Blocks until the image is on disk. With a size: decode + transform
+    // at that size and keep both the source and the result (ALL). Without:
+    // download the source only.
+    private static boolean load(RequestManager glide,
+                                BiFunction<RequestManager, String, RequestBuilder<Drawable>> spec,
+                                String url, @Nullable int[] size) throws InterruptedException {
+        FutureTarget<?> target = size != null
+                ? spec.apply(glide, url)
+                        .diskCacheStrategy(DiskCacheStrategy.ALL)
+                        .submit(size[0], size[1])
+                : glide.downloadOnly().load(url).submit();
+        try {
+            target.get();
+            return true;
+        } catch (ExecutionException e) {
+            Log.w(TAG, "Prefetch failed: " + url, e.getCause());
+            return false;
+        } finally {
+            // Only the disk copy is wanted; release the decoded bitmap.
+            glide.clear(target);
+        }
+    }
+
+    // Source downloads do not depend on the orientation — one key for both.
+    private static String warmKey(String kind, int orientation, @Nullable int[] size, String url) {
+        String at = size != null ? orientation + "|" + size[0] + "x" + size[1] : "source";
+        return kind + "|" + at + "|" + url;
+    }
+
+    private static void saveWarm(SharedPreferences prefs, Set<String> warm, Set<String> wanted) {
+        warm.retainAll(wanted);
+        prefs.edit().putStringSet(KEY_WARM, warm).apply();
+    }
+}
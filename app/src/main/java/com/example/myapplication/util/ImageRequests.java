@@ -0,0 +1,110 @@
+package com.example.myapplication.util;
+
+import android.content.Context;
+import android.content.SharedPreferences;
+import android.content.res.Configuration;
+import android.graphics.drawable.Drawable;
+import android.view.View;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import com.bumptech.glide.RequestBuilder;
+import com.bumptech.glide.RequestManager;
+import com.bumptech.glide.load.DecodeFormat;
+import com.example.myapplication.R;
+
+/**
+ * Glide request specs shared by the screens and ImagePrefetchWorker.
+ *
+ * Glide keys its transformed-resource disk cache on (url, width, height,
+ * transformation). The screens and the prefetch worker build their
+ * requests here, and the screens record the size their ImageView was laid
+ * out at — once per orientation, since both the size and (for Hope) the
+ * scaleType change on rotation — so a prefetched image is a disk hit at
+ * exactly the size shown: no download, no re-decode from the full-size source.
+ */
+public final class ImageRequests {
+
+    // Target kinds — one remembered size each.
+    public static final String HOPE            = "hope";
+    public static final String VIDEO_THUMBNAIL = "video_thumbnail";
+
+    private static final String PREFS = "image_targets";
+
+    private ImageRequests() {}
+
+    // HopeFragment's full-screen image. No transform: into(ImageView) takes
+    // it from the view's scaleType — centerCrop in portrait, fitCenter in
+    // landscape (see the two fragment_hope layouts).
+    public static RequestBuilder<Drawable> hopeImage(@NonNull RequestManager glide,
+                                                     @NonNull String url) {
+        return glide.load(url)
+                .placeholder(R.drawable.loading_image)  // shown while loading
+                .error(R.drawable.loading_image);       // shown if load fails
+    }
+
+    // The request into(currentImage) ends up making in 'orientation', for
+    // loads without an ImageView (ImagePrefetchWorker). Same optional
+    // transform Glide derives from the scaleType, so the same cache key.
+    public static RequestBuilder<Drawable> hopeImage(@NonNull RequestManager glide,
+                                                     @NonNull String url, int orientation) {
+        RequestBuilder<Drawable> request = hopeImage(glide, url);
+        return orientation == Configuration.ORIENTATION_LANDSCAPE
+                ? request.optionalFitCenter()
+                : request.optionalCenterCrop();
+    }
+
+    // One card in the Videos list. RGB_565: JPEG thumbnails have no alpha,
+    // and half the bytes per pixel means half the bitmap pool churn on scroll.
+    public static RequestBuilder<Drawable> videoThumbnail(@NonNull RequestManager glide,
+                                                          @NonNull String url) {
+        return glide.load(url)
+                .format(DecodeFormat.PREFER_RGB_565)
+                .centerCrop()
+                .placeholder(R.drawable.video)          // works offline
+                .error(R.drawable.video);
+    }
+
+    // ── Remembered target sizes ──────────────────────────────────────
+
+    // The orientations a size is remembered for.
+    public static final int[] ORIENTATIONS = {
+            Configuration.ORIENTATION_PORTRAIT, Configuration.ORIENTATION_LANDSCAPE };
+
+    // Records the view's laid-out size for 'kind' in the current orientation
+    // whenever it changes (first layout, split screen, a new device size).
+    public static void rememberSize(@NonNull View view, @NonNull String kind) {
+        SharedPreferences prefs = view.getContext().getApplicationContext()
+                .getSharedPreferences(PREFS, Context.MODE_PRIVATE);
+        view.addOnLayoutChangeListener((v, l, t, r, b, ol, ot, or, ob) -> {
+            int w = r - l, h = b - t;
+            if (w <= 0 || h <= 0 || (w == or - ol && h == ob - ot)) return;
+            String key = key(kind, v.getResources().getConfiguration().orientation);
+            if (prefs.getInt(key + "_w", 0) == w && prefs.getInt(key + "_h", 0) == h) return;
+            prefs.edit().putInt(key + "_w", w).putInt(key + "_h", h).apply();
+        });
+    }
+
+    // {width, height} last recorded for 'kind' in the context's current
+    // orientation, or null if that screen has never been laid out that way.
+    @Nullable
+    public static int[] rememberedSize(@NonNull Context context, @NonNull String kind) {
+        return rememberedSize(context, kind,
+                context.getResources().getConfiguration().orientation);
+    }
+
+    @Nullable
+    public static int[] rememberedSize(@NonNull Context context, @NonNull String kind,
+                                       int orientation) {
+        SharedPreferences prefs = context.getSharedPreferences(PREFS, Context.MODE_PRIVATE);
+        String key = key(kind, orientation);
+        int w = prefs.getInt(key + "_w", 0);
+        int h = prefs.getInt(key + "_h", 0);
+        return w > 0 && h > 0 ? new int[] { w, h } : null;
+    }
+
+    private static String key(String kind, int orientation) {
+        return kind + (orientation == Configuration.ORIENTATION_LANDSCAPE ? "_land" : "_port");
+    }
+}
@@ -0,0 +1,83 @@
+package com.example.myapplication.util;
+
+import android.content.Context;
+import android.util.Log;
+
+import androidx.annotation.NonNull;
+import androidx.work.Constraints;
+import androidx.work.Data;
+import androidx.work.ExistingWorkPolicy;
+import androidx.work.NetworkType;
+import androidx.work.OneTimeWorkRequest;
+import androidx.work.WorkManager;
+import androidx.work.Worker;
+import androidx.work.WorkerParameters;
+
+import com.example.myapplication.data.SessionManager;
+import com.example.myapplication.data.repository.JournalRepository;
+
+import java.util.concurrent.CountDownLatch;
+
+/**
+ * Runs a full journal restore that JournalRepository deferred because the
+ * device was on a metered network. Waits for an unmetered one as a
+ * WorkManager constraint, so the deferral survives the process dying.
+ */
+public class JournalRestoreWorker extends Worker {
+
+    private static final String TAG = "JournalRestoreWorker";
+
+    private static final String UNIQUE_WORK = "journal_full_restore:";
+    private static final String KEY_USER_ID = "user_id";
+
+    public JournalRestoreWorker(@NonNull Context context,
+                                @NonNull WorkerParameters params) {
+        super(context, params);
+    }
+
+    // One pending restore per user (KEEP). Tagged like the sync jobs, so
+    // account deletion cancels it along with them.
+    public static void enqueue(Context context, String userId) {
+        Constraints constraints = new Constraints.Builder()
+                .setRequiredNetworkType(NetworkType.UNMETERED)
+                .build();
+
+        OneTimeWorkRequest request = new OneTimeWorkRequest.Builder(JournalRestoreWorker.class)
+                .setConstraints(constraints)
+                .setInputData(new Data.Builder().putString(KEY_USER_ID, userId).build())
+                .addTag(SyncJournalWorker.WORK_TAG)
+                .build();
+
+        WorkManager.getInstance(context).enqueueUniqueWork(
+                UNIQUE_WORK + userId, ExistingWorkPolicy.KEEP, request);
+    }
+
+    @NonNull
+    @Override
+    public Result doWork() {
+        Context context = getApplicationContext();
+
+        // Step 1: Only restore for the user who asked, if still signed in.
+        String userId = getInputData().getString(KEY_USER_ID);
+        if (userId == null || !userId.equals(new SessionManager(context).getLoggedInUserId())) {
+            Log.d(TAG, "User signed out — skipping deferred restore");
+            return Result.success();
+        }
+
+        // Step 2: Run the restore and block until it settles, so WorkManager
+        // keeps the process alive for the whole history.
+        CountDownLatch done = new CountDownLatch(1);
+        new JournalRepository(context).restoreFromFirestore(userId, true, null, done::countDown);
+        try {
+            done.await();
+        } catch (InterruptedException e) {
+            // Wi-Fi lost or the system stopped us. No watermark was stored
+            // unless the reconcile finished, so a retry starts it again.
+            Thread.currentThread().interrupt();
+            return Result.retry();
+        }
+
+        Log.d(TAG, "Deferred full restore finished for user: " + userId);
+        return Result.success();
+    }
+}
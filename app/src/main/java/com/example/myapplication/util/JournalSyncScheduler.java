@@ -0,0 +1,81 @@
+package com.example.myapplication.util;
+
+import android.content.Context;
+import android.util.Log;
+
+import androidx.work.BackoffPolicy;
+import androidx.work.Constraints;
+import androidx.work.ExistingWorkPolicy;
+import androidx.work.NetworkType;
+import androidx.work.OneTimeWorkRequest;
+import androidx.work.OutOfQuotaPolicy;
+import androidx.work.WorkManager;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Debounced trigger for SyncJournalWorker after local journal writes.
+ *
+ * Every requestSync() enqueues the drain right away as unique work with
+ * REPLACE and a short initial delay: a burst of saves/edits/deletes keeps
+ * replacing the waiting request, so it becomes a single outbox drain (one
+ * WriteBatch for up to 500 ops) instead of one Firestore call per write.
+ * The debounce lives in WorkManager, not in this process, so a write made
+ * just before the app is killed is still pushed.
+ *
+ * The request needs a network connection, so writes made offline wait in
+ * WorkManager and go out as soon as connectivity returns — not at the next
+ * 15-minute periodic run.
+ */
+public final class JournalSyncScheduler {
+
+    private static final String TAG = "JournalSyncScheduler";
+
+    // Quiet period after the last write before the drain starts.
+    // Long enough to swallow a quick edit-after-save, short enough that the
+    // entry is backed up before the user leaves the screen.
+    static final long DEBOUNCE_MS = 3_000;
+
+    private JournalSyncScheduler() {}
+
+    // Safe from any thread. Cheap: one WorkManager enqueue. Delayed work
+    // cannot be expedited, so this runs as regular work once the delay is up.
+    public static void requestSync(Context context) {
+        OneTimeWorkRequest request = drainRequest()
+                .setInitialDelay(DEBOUNCE_MS, TimeUnit.MILLISECONDS)
+                .build();
+        enqueue(context, request);
+        Log.d(TAG, "Enqueued debounced journal sync");
+    }
+
+    // Enqueues the expedited drain right away, replacing a debounced one.
+    public static void syncNow(Context context) {
+        OneTimeWorkRequest request = drainRequest()
+                // Out of expedited quota → still run, just as regular work.
+                .setExpedited(OutOfQuotaPolicy.RUN_AS_NON_EXPEDITED_WORK_REQUEST)
+                .build();
+        enqueue(context, request);
+        Log.d(TAG, "Enqueued expedited journal sync");
+    }
+
+    private static OneTimeWorkRequest.Builder drainRequest() {
+        Constraints constraints = new Constraints.Builder()
+                .setRequiredNetworkType(NetworkType.CONNECTED)
+                .build();
+
+        return new OneTimeWorkRequest.Builder(SyncJournalWorker.class)
+                .setConstraints(constraints)
+                .setBackoffCriteria(BackoffPolicy.EXPONENTIAL, 30, TimeUnit.SECONDS)
+                .addTag(SyncJournalWorker.WORK_TAG);
+    }
+
+    // REPLACE: a request still waiting (for the delay or the network) is
+    // swapped for this one, so there is never more than one queued — the
+    // worker drains everything pending anyway.
+    private static void enqueue(Context context, OneTimeWorkRequest request) {
+        WorkManager.getInstance(context.getApplicationContext()).enqueueUniqueWork(
+                SyncJournalWorker.UNIQUE_EXPEDITED,
+                ExistingWorkPolicy.REPLACE,
+                request);
+    }
+}
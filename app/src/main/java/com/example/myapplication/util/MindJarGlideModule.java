@@ -0,0 +1,71 @@
+package com.example.myapplication.util;
+
+import android.app.ActivityManager;
+import android.content.Context;
+import android.os.Build;
+import android.util.Log;
+
+import androidx.annotation.NonNull;
+
+import com.bumptech.glide.GlideBuilder;
+import com.bumptech.glide.annotation.GlideModule;
+import com.bumptech.glide.load.DecodeFormat;
+import com.bumptech.glide.load.engine.bitmap_recycle.LruBitmapPool;
+import com.bumptech.glide.load.engine.cache.InternalCacheDiskCacheFactory;
+import com.bumptech.glide.load.engine.cache.LruResourceCache;
+import com.bumptech.glide.load.engine.cache.MemorySizeCalculator;
+import com.bumptech.glide.module.AppGlideModule;
+import com.bumptech.glide.request.RequestOptions;
+
+/**
+ * App-wide Glide configuration.
+ *
+ * The app shows one full-screen Hope image at a time and a list of video
+ * thumbnails. Glide's memory budgets are kept except where they do not
+ * fit that:
+ *   - memory cache: Glide's 2 screens, cut to 1 on low-RAM devices,
+ *   - bitmap pool:  below Android 8.0 only, 3 screens (2 on low-RAM
+ *     devices) instead of Glide's 4 — bitmaps live on the Java heap there,
+ *     and 3 still recycles every card bitmap during a fling. From 8.0 on,
+ *     bitmaps live in native memory and Glide's own small pool (none on
+ *     low-RAM devices) is left alone,
+ *   - disk cache:   100 MB, which holds every Hope image and thumbnail
+ *     several times over (ImagePrefetchWorker fills it on Wi-Fi).
+ * Low-RAM devices also decode everything as RGB_565 (half the bytes per
+ * pixel); elsewhere only thumbnails do (see ImageRequests).
+ */
+@GlideModule
+public final class MindJarGlideModule extends AppGlideModule {
+
+    private static final long DISK_CACHE_BYTES = 100L * 1024 * 1024;
+
+    @Override
+    public void applyOptions(@NonNull Context context, @NonNull GlideBuilder builder) {
+        ActivityManager am = (ActivityManager) context.getSystemService(Context.ACTIVITY_SERVICE);
+        boolean lowRam = am != null && am.isLowRamDevice();
+
+        MemorySizeCalculator.Builder calculator = new MemorySizeCalculator.Builder(context);
+        if (lowRam) calculator.setMemoryCacheScreens(1);
+        if (Build.VERSION.SDK_INT < Build.VERSION_CODES.O) {
+            calculator.setBitmapPoolScreens(lowRam ? 2 : 3);
+        }
+        MemorySizeCalculator sizes = calculator.build();
+
+        builder.setMemoryCache(new LruResourceCache(sizes.getMemoryCacheSize()))
+                .setBitmapPool(new LruBitmapPool(sizes.getBitmapPoolSize()))
+                .setDiskCache(new InternalCacheDiskCacheFactory(context, DISK_CACHE_BYTES))
+                .setLogLevel(Log.ERROR);
+
+        if (lowRam) {
+            builder.setDefaultRequestOptions(
+                    new RequestOptions().format(DecodeFormat.PREFER_RGB_565));
+        }
+    }
+
+    // No dependency declares a Glide v3 module in its manifest — skip the
+    // scan at startup.
+    @Override
+    public boolean isManifestParsingEnabled() {
+        return false;
+    }
+}
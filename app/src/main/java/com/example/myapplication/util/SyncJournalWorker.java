@@ -1,28 +1,75 @@
 package com.example.myapplication.util;
 
+import android.app.Notification;
+import android.app.NotificationChannel;
+import android.app.NotificationManager;
 import android.content.Context;
+import android.os.Build;
 import android.util.Log;
 
 import androidx.annotation.NonNull;
+import androidx.core.app.NotificationCompat;
+import androidx.work.Data;
+import androidx.work.ForegroundInfo;
 import androidx.work.Worker;
 import androidx.work.WorkerParameters;
 
-import com.example.myapplication.data.local.entity.JournalEntryEntity;
+import com.example.myapplication.R;
 import com.example.myapplication.data.repository.JournalRepository;
 import com.google.firebase.auth.FirebaseAuth;
 import com.google.firebase.auth.FirebaseUser;
 
-import java.util.List;
-
 public class SyncJournalWorker extends Worker {
 
     private static final String TAG = "SyncJournalWorker";
 
+    // Every sync request carries this tag, so cancelAllWorkByTag() stops
+    // both the periodic job and a pending expedited one (e.g. on account deletion).
+    public static final String WORK_TAG = "sync_journal";
+
+    // Unique work names: the 15-minute safety net scheduled in Dashboard,
+    // and the debounced run after local writes (JournalSyncScheduler).
+    public static final String UNIQUE_PERIODIC  = "sync_journal";
+    public static final String UNIQUE_EXPEDITED = "sync_journal_now";
+
+    // Input: cap on concurrent WriteBatch commits. Higher = faster catch-up
+    // after a long offline stretch, lower = gentler on a weak connection.
+    public static final String KEY_MAX_IN_FLIGHT     = "max_in_flight";
+    public static final int    DEFAULT_MAX_IN_FLIGHT = 2;
+
+    // Progress (observe through WorkInfo.getProgress()).
+    public static final String PROGRESS_DONE  = "done";
+    public static final String PROGRESS_TOTAL = "total";
+
     public SyncJournalWorker(@NonNull Context context,
                              @NonNull WorkerParameters params) {
         super(context, params);
     }
 
+    // Expedited runs (JournalSyncScheduler) execute as a short foreground
+    // service below Android 12, which needs a notification to show.
+    private static final String CHANNEL_ID      = "journal_sync";
+    private static final int    NOTIFICATION_ID = 1001;
+
+    @NonNull
+    @Override
+    public ForegroundInfo getForegroundInfo() {
+        Context context = getApplicationContext();
+        if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.O) {
+            NotificationChannel channel = new NotificationChannel(CHANNEL_ID,
+                    context.getString(R.string.sync_channel_name),
+                    NotificationManager.IMPORTANCE_LOW);
+            context.getSystemService(NotificationManager.class).createNotificationChannel(channel);
+        }
+        Notification notification = new NotificationCompat.Builder(context, CHANNEL_ID)
+                .setSmallIcon(android.R.drawable.stat_notify_sync)
+                .setContentTitle(context.getString(R.string.sync_notification_title))
+                .setPriority(NotificationCompat.PRIORITY_LOW)
+                .setOngoing(true)
+                .build();
+        return new ForegroundInfo(NOTIFICATION_ID, notification);
+    }
+
     @NonNull
     @Override
     public Result doWork() {
@@ -41,20 +88,38 @@ public class SyncJournalWorker extends Worker {
         String userId = currentUser.getUid();
         Log.d(TAG, "Running sync for user: " + userId);
 
-        // Step 2: Find only THIS user's unsynced entries.
+        // Step 2: Replay only THIS user's pending outbox ops, oldest first.
         // The userId filter is critical — see explanation above.
+        // Ops go out as WriteBatch commits of up to 500 documents; each
+        // committed batch is acked in Room with one bulk update.
+        // drainOutbox() blocks until every batch has settled, so WorkManager
+        // keeps the process alive for the whole sync.
+        int maxInFlight = Math.max(1,
+                getInputData().getInt(KEY_MAX_IN_FLIGHT, DEFAULT_MAX_IN_FLIGHT));
         JournalRepository repo = new JournalRepository(getApplicationContext());
-        List<JournalEntryEntity> pending = repo.getUnsyncedEntries(userId);
 
-        Log.d(TAG, "Found " + pending.size() + " unsynced entries to retry");
-
-        // Step 3: Push each pending entry to Firestore.
-        // pushToFirestore() will flip syncedToFirebase = true on success.
-        // On failure it silently logs — WorkManager will try again next run.
-        for (JournalEntryEntity entry : pending) {
-            repo.pushToFirestore(entry);
+        JournalRepository.DrainResult result;
+        try {
+            result = repo.drainOutbox(userId, maxInFlight, (done, total) ->
+                    setProgressAsync(new Data.Builder()
+                            .putInt(PROGRESS_DONE,  done)
+                            .putInt(PROGRESS_TOTAL, total)
+                            .build()));
+        } catch (InterruptedException e) {
+            // WorkManager stopped us (constraints lost, app killed). Whatever
+            // was not acknowledged is still in the outbox.
+            Thread.currentThread().interrupt();
+            return Result.retry();
         }
 
+        Log.d(TAG, "Synced " + result.synced + "/" + result.total + " outbox ops"
+                + (result.isPartial() ? " (" + result.failed + " failed"
+                        + (result.timedOut ? ", timed out" : "") + ")" : ""));
+
+        // Step 3: Anything left over → retry with the request's exponential
+        // backoff (see Dashboard) instead of waiting for the next period.
+        if (result.isPartial()) return Result.retry();
+
         return Result.success();
     }
 }
@@ -0,0 +1,58 @@
+package com.example.myapplication.util;
+
+import androidx.annotation.NonNull;
+
+/**
+ * Builds YouTube thumbnail URLs (img.youtube.com/vi/{id}/{name}.jpg) and
+ * picks the smallest rendition that still covers a card.
+ *
+ * Renditions, by width of the picture once cropped to 16:9:
+ *   default    120  (120x90, letterboxed)
+ *   mqdefault  320  (320x180)
+ *   hqdefault  480  (480x360, letterboxed)
+ *   sddefault  640  (640x480, letterboxed)
+ * The cards are 16:9 centerCrop, so the letterbox bars are cropped away
+ * and only the width matters. maxresdefault is skipped — it does not
+ * exist for every video.
+ */
+public final class YouTubeThumbnails {
+
+    public enum Rendition {
+        DEFAULT("default", 120),
+        MQ("mqdefault", 320),
+        HQ("hqdefault", 480),
+        SD("sddefault", 640);
+
+        final String fileName;
+        final int    widthPx;
+
+        Rendition(String fileName, int widthPx) {
+            this.fileName = fileName;
+            this.widthPx  = widthPx;
+        }
+    }
+
+    // Up to this much upscaling is accepted before stepping up a rendition —
+    // a 500 px card does not need the 640 px image.
+    private static final float MAX_UPSCALE = 1.1f;
+
+    private YouTubeThumbnails() {}
+
+    public static String url(@NonNull String videoId, @NonNull Rendition rendition) {
+        return "https://img.youtube.com/vi/" + videoId + "/" + rendition.fileName + ".jpg";
+    }
+
+    // Thumbnail for a view 'viewWidthPx' physical pixels wide — the measured
+    // width already includes the screen density. Unknown width (0) → HQ.
+    public static String forWidth(@NonNull String videoId, int viewWidthPx) {
+        return url(videoId, pick(viewWidthPx));
+    }
+
+    static Rendition pick(int viewWidthPx) {
+        if (viewWidthPx <= 0) return Rendition.HQ;
+        for (Rendition r : Rendition.values()) {
+            if (r.widthPx * MAX_UPSCALE >= viewWidthPx) return r;
+        }
+        return Rendition.SD;
+    }
+}
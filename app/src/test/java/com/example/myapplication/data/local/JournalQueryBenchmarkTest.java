@@ -0,0 +1,139 @@
+package com.example.myapplication.data.local;
+
+import android.content.Context;
+import android.database.Cursor;
+import android.util.Log;
+
+import androidx.room.Room;
+import androidx.sqlite.db.SupportSQLiteDatabase;
+import androidx.test.core.app.ApplicationProvider;
+import androidx.test.ext.junit.runners.AndroidJUnit4;
+
+import com.example.myapplication.data.local.dao.JournalEntryDao;
+import com.example.myapplication.data.local.entity.JournalEntryEntity;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.annotation.SQLiteMode;
+import org.robolectric.shadows.ShadowLog;
+
+import java.util.Arrays;
+
+import static org.junit.Assert.*;
+
+/**
+ * Benchmark for the journal list query on 50k synthetic rows, on the JVM
+ * under Robolectric with native SQLite (no device needed).
+ * Each query is timed twice, identical SQL both times: on the composite
+ * (userId, createdAtEpochMs) index, then on the old single-column indexes,
+ * so the difference is the index alone — not the page limit or the
+ * JournalEntryRow projection. The index is not covering: the projection
+ * still reads emotion, syncedToFirebase and the description preview from
+ * the table row, one rowid lookup per returned row.
+ * Timings are logged under the "JournalQueryBenchmark" tag.
+ */
+@RunWith(AndroidJUnit4.class)
+@SQLiteMode(SQLiteMode.Mode.NATIVE)
+public class JournalQueryBenchmarkTest {
+
+    private static final String TAG   = "JournalQueryBenchmark";
+    private static final int    ROWS  = 50_000;
+    private static final int    USERS = 5;
+    private static final int    RUNS  = 15;
+    private static final int    PAGE  = 90;   // Paging's initial load (3 x PAGE_SIZE)
+    private static final String USER  = "user-0";
+
+    private AppDatabase db;
+    private JournalEntryDao dao;
+
+    @Before
+    public void setUp() {
+        ShadowLog.stream = System.out;   // timings in the test output
+        Context context = ApplicationProvider.getApplicationContext();
+        // The Robolectric test thread is the main thread.
+        db  = Room.inMemoryDatabaseBuilder(context, AppDatabase.class)
+                .allowMainThreadQueries()
+                .build();
+        dao = db.journalEntryDao();
+
+        // ~1 KB description per row so the cost of loading full text shows up.
+        char[] filler = new char[1024];
+        Arrays.fill(filler, 'x');
+        String description = new String(filler);
+        long now = System.currentTimeMillis();
+
+        db.runInTransaction(() -> {
+            for (int i = 0; i < ROWS; i++) {
+                JournalEntryEntity e = new JournalEntryEntity(
+                        "user-" + (i % USERS), "happy", description, now - i * 60_000L);
+                e.firestoreId = "fs-" + i;
+                dao.insert(e);
+            }
+        });
+    }
+
+    @After
+    public void tearDown() {
+        db.close();
+    }
+
+    @Test
+    public void listQuery_usesCompositeIndex_withoutTempSort() {
+        String plan = explain("SELECT entryId FROM journal_entries WHERE userId = ?"
+                + " ORDER BY createdAtEpochMs DESC, entryId DESC LIMIT " + PAGE);
+        Log.i(TAG, "plan: " + plan);
+
+        assertTrue(plan, plan.contains("index_journal_entries_userId_createdAtEpochMs"));
+        assertFalse(plan, plan.contains("TEMP B-TREE"));
+    }
+
+    @Test
+    public void listQuery_withAndWithoutCompositeIndex() {
+        // With — the composite index.
+        long pageWithNs = medianNs(() -> dao.getFirstRowPage(USER, PAGE));
+        long fullWithNs = medianNs(() -> dao.getEntriesByUser(USER));
+
+        // Without — the old single-column indexes, same queries.
+        SupportSQLiteDatabase raw = db.getOpenHelper().getWritableDatabase();
+        raw.execSQL("DROP INDEX `index_journal_entries_userId_createdAtEpochMs`");
+        raw.execSQL("CREATE INDEX `index_journal_entries_userId` ON `journal_entries` (`userId`)");
+        raw.execSQL("CREATE INDEX `index_journal_entries_createdAtEpochMs`"
+                + " ON `journal_entries` (`createdAtEpochMs`)");
+        long pageWithoutNs = medianNs(() -> dao.getFirstRowPage(USER, PAGE));
+        long fullWithoutNs = medianNs(() -> dao.getEntriesByUser(USER));
+
+        Log.i(TAG, String.format(java.util.Locale.US,
+                "%d rows: row page %.2f ms -> %.2f ms | full list %.2f ms -> %.2f ms"
+                        + " (old indexes -> composite)",
+                ROWS, pageWithoutNs / 1e6, pageWithNs / 1e6,
+                fullWithoutNs / 1e6, fullWithNs / 1e6));
+
+        // The page is where the index matters: no temp sort of the user's rows.
+        assertTrue("composite index should speed up the row page", pageWithNs < pageWithoutNs);
+    }
+
+    // ── Helpers ──────────────────────────────────────────────────────
+
+    private long medianNs(Runnable query) {
+        query.run();   // warm-up: statement cache + page cache
+        long[] samples = new long[RUNS];
+        for (int i = 0; i < RUNS; i++) {
+            long start = System.nanoTime();
+            query.run();
+            samples[i] = System.nanoTime() - start;
+        }
+        Arrays.sort(samples);
+        return samples[RUNS / 2];
+    }
+
+    private String explain(String sql) {
+        StringBuilder plan = new StringBuilder();
+        try (Cursor c = db.query("EXPLAIN QUERY PLAN " + sql, new Object[]{USER})) {
+            int detail = c.getColumnIndexOrThrow("detail");
+            while (c.moveToNext()) plan.append(c.getString(detail)).append('\n');
+        }
+        return plan.toString();
+    }
+}
@@ -0,0 +1,349 @@
+package com.example.myapplication.data.remote;
+
+import androidx.annotation.NonNull;
+
+import com.google.android.gms.tasks.Task;
+import com.google.android.gms.tasks.TaskCompletionSource;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Random;
+import java.util.TreeMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * In-process RemoteJournalStore for the JVM tests and sync
+ * benchmarks — test-only, never shipped in the app.
+ * Behaves like FirestoreJournalStore from JournalRepository's point of view
+ * (atomic commits, ordered cursor pages, live change streams) and adds knobs
+ * the real backend does not have:
+ *
+ *   latencyMs   — delay before every commit / page / initial snapshot completes
+ *   failureRate — probability [0, 1] that a commit or page fails with IOException
+ *   maxPageSize — server-side cap on a page, below the requested limit
+ *
+ * Counters (reads, writes, round trips, failures) make the cost of a sync
+ * visible without a Firebase bill.
+ */
+public class InMemoryJournalStore implements RemoteJournalStore {
+
+    // Sorts after every real document ID: (t, MAX_ID) excludes all of t.
+    private static final String MAX_ID = "\uffff";
+
+    private final long latencyMs;
+    private final double failureRate;
+    private final int maxPageSize;
+    private final Random random;
+
+    private final ScheduledExecutorService clock =
+            Executors.newSingleThreadScheduledExecutor(r -> {
+                Thread t = new Thread(r, "InMemoryJournalStore");
+                t.setDaemon(true);
+                return t;
+            });
+
+    // Per user: every document, plus the two orders fetchPage() walks.
+    private final Map<String, UserData> users = new HashMap<>();
+    // Stands in for Firestore's commit timestamps: strictly increasing micros.
+    private long serverClockMicros;
+    private final Map<String, List<Listener>> listeners = new HashMap<>();
+
+    private final AtomicLong reads      = new AtomicLong();
+    private final AtomicLong writes     = new AtomicLong();
+    private final AtomicLong roundTrips = new AtomicLong();
+    private final AtomicLong failures   = new AtomicLong();
+
+    // No latency, no failures, no page cap.
+    public InMemoryJournalStore() {
+        this(0, 0.0, Integer.MAX_VALUE, 42L);
+    }
+
+    public InMemoryJournalStore(long latencyMs, double failureRate, int maxPageSize, long seed) {
+        this.latencyMs   = latencyMs;
+        this.failureRate = failureRate;
+        this.maxPageSize = maxPageSize;
+        this.random      = new Random(seed);
+    }
+
+    // ── RemoteJournalStore ───────────────────────────────────────────
+
+    @Override
+    public Task<Void> commit(@NonNull String userId, @NonNull List<RemoteEntry> entries) {
+        if (entries.size() > MAX_BATCH_WRITES) {
+            throw new IllegalArgumentException("Batch exceeds " + MAX_BATCH_WRITES + " writes");
+        }
+        List<RemoteEntry> copy = new ArrayList<>(entries);
+        TaskCompletionSource<Void> result = new TaskCompletionSource<>();
+        later(() -> {
+            if (shouldFail()) {
+                result.setException(new IOException("Injected commit failure"));
+                return;
+            }
+            List<RemoteEntry> stamped = new ArrayList<>(copy.size());
+            synchronized (this) {
+                UserData data = user(userId);
+                long now = nextServerTime();   // one commit = one timestamp
+                for (RemoteEntry e : copy) {
+                    RemoteEntry s = e.withServerTime(now);
+                    data.put(s);
+                    stamped.add(s);
+                }
+            }
+            writes.addAndGet(copy.size());
+            result.setResult(null);
+            notifyListeners(userId, stamped);
+        });
+        return result.getTask();
+    }
+
+    @Override
+    public Task<Page> fetchPage(@NonNull String userId, @NonNull PageRequest request) {
+        TaskCompletionSource<Page> result = new TaskCompletionSource<>();
+        later(() -> {
+            if (shouldFail()) {
+                result.setException(new IOException("Injected read failure"));
+                return;
+            }
+            int limit = Math.min(request.limit, maxPageSize);
+            List<RemoteEntry> page = new ArrayList<>(Math.min(limit, 1024));
+            boolean hasMore;
+            synchronized (this) {
+                NavigableMap<Key, RemoteEntry> index;
+                if (request.order == Order.CREATED_AT) {
+                    index = user(userId).byCreated;
+                    if (request.after != null) {
+                        index = index.tailMap(new Key(request.after.createdAtEpochMs,
+                                                      request.after.firestoreId), false);
+                    }
+                } else {
+                    // Resume after the cursor, but never at or before updatedAfter.
+                    RemoteEntry after = request.after;
+                    Key from = after != null && after.serverUpdatedAtMicros > request.updatedAfter
+                            ? new Key(after.serverUpdatedAtMicros, after.firestoreId)
+                            : new Key(request.updatedAfter, MAX_ID);
+                    index = user(userId).byUpdated.tailMap(from, false);
+                }
+                Iterator<RemoteEntry> it = index.values().iterator();
+                while (page.size() < limit && it.hasNext()) page.add(it.next());
+                hasMore = it.hasNext();
+            }
+            reads.addAndGet(Math.max(1, page.size()));   // Firestore bills an empty query as 1 read
+            RemoteEntry last = page.isEmpty() ? null : page.get(page.size() - 1);
+            result.setResult(new Page(page, last, hasMore));
+        });
+        return result.getTask();
+    }
+
+    @Override
+    public Subscription listen(@NonNull String userId, long sinceServerMicros,
+                               @NonNull ChangeListener listener) {
+        Listener l = new Listener(sinceServerMicros, listener);
+        synchronized (this) {
+            listeners.computeIfAbsent(userId, k -> new CopyOnWriteArrayList<>()).add(l);
+        }
+        // Initial snapshot: everything currently past the watermark
+        // (0 = the whole collection, unstamped documents included).
+        later(() -> {
+            List<RemoteEntry> initial;
+            synchronized (this) {
+                UserData data = user(userId);
+                initial = sinceServerMicros <= 0
+                        ? new ArrayList<>(data.docs.values())
+                        : new ArrayList<>(data.byUpdated
+                                .tailMap(new Key(sinceServerMicros, MAX_ID), false).values());
+            }
+            reads.addAndGet(Math.max(1, initial.size()));
+            if (!initial.isEmpty() && l.active) {
+                listener.onChanges(initial, new ArrayList<>(), true);
+            }
+        });
+        return () -> {
+            l.active = false;
+            synchronized (InMemoryJournalStore.this) {
+                List<Listener> list = listeners.get(userId);
+                if (list != null) list.remove(l);
+            }
+        };
+    }
+
+    @Override
+    public Task<Void> stampServerTime(@NonNull String userId, @NonNull List<String> firestoreIds) {
+        List<String> ids = new ArrayList<>(firestoreIds);
+        TaskCompletionSource<Void> result = new TaskCompletionSource<>();
+        later(() -> {
+            if (shouldFail()) {
+                result.setException(new IOException("Injected commit failure"));
+                return;
+            }
+            List<RemoteEntry> stamped = new ArrayList<>(ids.size());
+            synchronized (this) {
+                UserData data = user(userId);
+                for (String id : ids) {
+                    if (!data.docs.containsKey(id)) {
+                        result.setException(new IOException("No document " + id));
+                        return;
+                    }
+                }
+                long now = nextServerTime();
+                for (String id : ids) {
+                    RemoteEntry s = data.docs.get(id).withServerTime(now);
+                    data.put(s);
+                    stamped.add(s);
+                }
+            }
+            writes.addAndGet(ids.size());
+            result.setResult(null);
+            notifyListeners(userId, stamped);
+        });
+        return result.getTask();
+    }
+
+    // ── Test / benchmark helpers ─────────────────────────────────────
+
+    // Loads documents directly — no latency, no failures, not counted.
+    // Stamped with the server clock, like documents written by commit().
+    public synchronized void seed(@NonNull String userId, @NonNull List<RemoteEntry> entries) {
+        UserData data = user(userId);
+        long now = nextServerTime();
+        for (RemoteEntry e : entries) data.put(e.withServerTime(now));
+    }
+
+    // Loads documents as written before serverUpdatedAt existed (unstamped).
+    public synchronized void seedLegacy(@NonNull String userId, @NonNull List<RemoteEntry> entries) {
+        UserData data = user(userId);
+        for (RemoteEntry e : entries) data.put(e.withServerTime(0L));
+    }
+
+    public synchronized int size(@NonNull String userId) {
+        return user(userId).docs.size();
+    }
+
+    public long getReads()      { return reads.get(); }
+    public long getWrites()     { return writes.get(); }
+    public long getRoundTrips() { return roundTrips.get(); }
+    public long getFailures()   { return failures.get(); }
+
+    public void resetStats() {
+        reads.set(0);
+        writes.set(0);
+        roundTrips.set(0);
+        failures.set(0);
+    }
+
+    public void shutdown() {
+        clock.shutdownNow();
+    }
+
+    // ── Internals ────────────────────────────────────────────────────
+
+    private void later(Runnable r) {
+        roundTrips.incrementAndGet();
+        if (latencyMs <= 0) clock.execute(r);
+        else                clock.schedule(r, latencyMs, TimeUnit.MILLISECONDS);
+    }
+
+    private synchronized long nextServerTime() {
+        serverClockMicros = Math.max(serverClockMicros + 1, System.currentTimeMillis() * 1_000L);
+        return serverClockMicros;
+    }
+
+    private boolean shouldFail() {
+        if (failureRate <= 0 || random.nextDouble() >= failureRate) return false;
+        failures.incrementAndGet();
+        return true;
+    }
+
+    private void notifyListeners(String userId, List<RemoteEntry> written) {
+        List<Listener> list;
+        synchronized (this) {
+            list = listeners.get(userId);
+        }
+        if (list == null) return;
+        for (Listener l : list) {
+            List<RemoteEntry> visible = new ArrayList<>();
+            for (RemoteEntry e : written) {
+                if (l.since <= 0 || e.serverUpdatedAtMicros > l.since) visible.add(e);
+            }
+            if (!visible.isEmpty() && l.active) {
+                reads.addAndGet(visible.size());
+                l.listener.onChanges(visible, new ArrayList<>(), true);
+            }
+        }
+    }
+
+    private UserData user(String userId) {
+        UserData data = users.get(userId);
+        if (data == null) {
+            data = new UserData();
+            users.put(userId, data);
+        }
+        return data;
+    }
+
+    private static final class UserData {
+        final Map<String, RemoteEntry> docs = new HashMap<>();
+        // Live entries only — tombstones have no createdAtEpochMs, like in Firestore.
+        final TreeMap<Key, RemoteEntry> byCreated = new TreeMap<>();
+        final TreeMap<Key, RemoteEntry> byUpdated = new TreeMap<>();
+
+        void put(RemoteEntry e) {
+            RemoteEntry old = docs.put(e.firestoreId, e);
+            if (old != null) {
+                if (!old.deleted) byCreated.remove(new Key(old.createdAtEpochMs, old.firestoreId));
+                byUpdated.remove(new Key(old.serverUpdatedAtMicros, old.firestoreId));
+            }
+            if (!e.deleted) byCreated.put(new Key(e.createdAtEpochMs, e.firestoreId), e);
+            // Unstamped documents are invisible to SERVER_UPDATED_AT, like in Firestore.
+            if (e.serverUpdatedAtMicros > 0) {
+                byUpdated.put(new Key(e.serverUpdatedAtMicros, e.firestoreId), e);
+            }
+        }
+    }
+
+    // (timestamp, firestoreId) — the same ordering FirestoreJournalStore uses.
+    private static final class Key implements Comparable<Key> {
+        final long ts;
+        final String id;
+
+        Key(long ts, String id) {
+            this.ts = ts;
+            this.id = id;
+        }
+
+        @Override
+        public int compareTo(Key o) {
+            int c = Long.compare(ts, o.ts);
+            return c != 0 ? c : id.compareTo(o.id);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof Key && compareTo((Key) o) == 0;
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * Long.hashCode(ts) + id.hashCode();
+        }
+    }
+
+    private static final class Listener {
+        final long since;
+        final ChangeListener listener;
+        volatile boolean active = true;
+
+        Listener(long since, ChangeListener listener) {
+            this.since    = since;
+            this.listener = listener;
+        }
+    }
+}
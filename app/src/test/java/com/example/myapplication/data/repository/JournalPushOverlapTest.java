@@ -0,0 +1,120 @@
+package com.example.myapplication.data.repository;
+
+import android.content.Context;
+
+import androidx.room.Room;
+import androidx.test.core.app.ApplicationProvider;
+import androidx.test.ext.junit.runners.AndroidJUnit4;
+
+import com.example.myapplication.data.local.AppDatabase;
+import com.example.myapplication.data.local.entity.JournalEntryEntity;
+import com.example.myapplication.data.remote.InMemoryJournalStore;
+import com.example.myapplication.data.remote.RemoteEntry;
+import com.example.myapplication.data.remote.RemoteJournalStore;
+import com.example.myapplication.testing.MainLooper;
+import com.google.android.gms.tasks.Tasks;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.annotation.SQLiteMode;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.Assert.*;
+
+/**
+ * Overlapping outbox drains against an InMemoryJournalStore with a slow
+ * round trip: an entry edited A → B → A while B is still being committed
+ * must end up as A on the server, with the local row's syncedContentHash
+ * matching what the server holds. Runs on the JVM under Robolectric.
+ */
+@RunWith(AndroidJUnit4.class)
+@SQLiteMode(SQLiteMode.Mode.NATIVE)
+public class JournalPushOverlapTest {
+
+    private static final String USER       = "user-0";
+    private static final long   LATENCY_MS = 500;   // long enough to edit mid-commit
+
+    private AppDatabase db;
+    private InMemoryJournalStore remote;
+    private JournalRepository repo;
+
+    @Before
+    public void setUp() {
+        Context context = ApplicationProvider.getApplicationContext();
+        // The Robolectric test thread is the main thread.
+        db     = Room.inMemoryDatabaseBuilder(context, AppDatabase.class)
+                .allowMainThreadQueries()
+                .build();
+        remote = new InMemoryJournalStore(LATENCY_MS, 0.0, Integer.MAX_VALUE, 42L);
+        repo   = new JournalRepository(db, remote);
+    }
+
+    @After
+    public void tearDown() {
+        remote.shutdown();
+        db.close();
+    }
+
+    @Test
+    public void revertWhileInFlight_serverEndsOnRevertedContent() throws Exception {
+        // Step 1: A is written and synced.
+        repo.addEntry(USER, "happy", "Version A");
+        assertFalse(MainLooper.callOffMain(() -> repo.drainOutbox(USER, 2, null)).isPartial());
+        JournalEntryEntity entry = repo.listEntries(USER).get(0);
+        String hashA = entry.contentHash;
+
+        // Step 2: Edit to B and start pushing it on another thread.
+        repo.updateEntry(entry, "sad", "Version B");
+        long roundTrips = remote.getRoundTrips();
+        AtomicReference<JournalRepository.DrainResult> first = new AtomicReference<>();
+        AtomicReference<Throwable> firstError = new AtomicReference<>();
+        CountDownLatch firstDone = new CountDownLatch(1);
+        Thread drain = new Thread(() -> {
+            try {
+                first.set(repo.drainOutbox(USER, 2, null));
+            } catch (Throwable t) {
+                firstError.set(t);
+            } finally {
+                firstDone.countDown();
+            }
+        });
+        drain.start();
+
+        // Wait until B's commit is on the wire (the store counts it at once).
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (remote.getRoundTrips() == roundTrips) {
+            assertTrue("B was never sent", System.currentTimeMillis() < deadline);
+            MainLooper.idle();
+            Thread.sleep(5);
+        }
+
+        // Step 3: Revert to A while B is in flight, and drain again.
+        entry = db.journalEntryDao().findByFirestoreId(entry.firestoreId);
+        repo.updateEntry(entry, "happy", "Version A");
+        assertEquals(hashA, entry.contentHash);
+        assertFalse(MainLooper.callOffMain(() -> repo.drainOutbox(USER, 2, null)).isPartial());
+
+        MainLooper.await(firstDone, 1, TimeUnit.MINUTES);
+        assertNull(firstError.get());
+        assertFalse(first.get().isPartial());
+
+        // Step 4: The server holds A, and the local row knows it.
+        List<RemoteEntry> docs = MainLooper.callOffMain(() -> Tasks.await(remote.fetchPage(USER,
+                new RemoteJournalStore.PageRequest(RemoteJournalStore.Order.CREATED_AT,
+                                                   0L, null, 10)))).entries;
+        assertEquals(1, docs.size());
+        assertEquals(hashA, docs.get(0).contentHash);
+
+        JournalEntryEntity local = db.journalEntryDao().findByFirestoreId(entry.firestoreId);
+        assertEquals(hashA, local.contentHash);
+        assertEquals(hashA, local.syncedContentHash);
+        assertTrue(local.syncedToFirebase);
+        assertEquals(0, db.journalOutboxDao().countPending(USER));
+    }
+}
@@ -0,0 +1,198 @@
+package com.example.myapplication.data.repository;
+
+import android.content.Context;
+import android.util.Log;
+
+import androidx.room.Room;
+import androidx.test.core.app.ApplicationProvider;
+import androidx.test.ext.junit.runners.AndroidJUnit4;
+
+import com.example.myapplication.data.local.AppDatabase;
+import com.example.myapplication.data.local.entity.JournalEntryEntity;
+import com.example.myapplication.data.local.entity.JournalOutboxEntity;
+import com.example.myapplication.data.remote.InMemoryJournalStore;
+import com.example.myapplication.data.remote.RemoteEntry;
+import com.example.myapplication.testing.MainLooper;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.annotation.SQLiteMode;
+import org.robolectric.shadows.ShadowLog;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.*;
+
+/**
+ * Benchmark for journal sync throughput at 1k / 10k / 100k entries:
+ * outbox push, streamed restore, and the Room merge on its own.
+ * Runs the real JournalRepository against an in-memory database and an
+ * InMemoryJournalStore with a fixed round-trip latency, on the JVM under
+ * Robolectric (native SQLite), so results are repeatable on any CI box
+ * and need neither a device nor a Firebase project.
+ * Timings are logged under the "JournalSyncBenchmark" tag.
+ */
+@RunWith(AndroidJUnit4.class)
+@SQLiteMode(SQLiteMode.Mode.NATIVE)
+public class JournalSyncBenchmarkTest {
+
+    private static final String TAG        = "JournalSyncBenchmark";
+    private static final String USER       = "user-0";
+    private static final int[]  SIZES      = {1_000, 10_000, 100_000};
+    private static final long   LATENCY_MS = 20;    // simulated round trip
+    private static final int    IN_FLIGHT  = 2;     // SyncJournalWorker's default
+
+    @Before
+    public void setUp() {
+        ShadowLog.stream = System.out;   // timings in the test output
+    }
+
+    @Test
+    public void push_drainsOutbox() throws Exception {
+        for (int n : SIZES) {
+            AppDatabase db = newDatabase();
+            InMemoryJournalStore remote = newStore();
+            try {
+                seedLocal(db, n);
+                JournalRepository repo = new JournalRepository(db, remote);
+
+                long start = System.nanoTime();
+                JournalRepository.DrainResult result = MainLooper.callOffMain(
+                        () -> repo.drainOutbox(USER, IN_FLIGHT, null));
+                long ns = System.nanoTime() - start;
+
+                assertFalse(result.isPartial());
+                assertEquals(n, remote.size(USER));
+                assertEquals(0, db.journalOutboxDao().countPending(USER));
+                log("push", n, ns, remote);
+            } finally {
+                remote.shutdown();
+                db.close();
+            }
+        }
+    }
+
+    @Test
+    public void restore_fullReconcile() throws Exception {
+        for (int n : SIZES) {
+            AppDatabase db = newDatabase();
+            InMemoryJournalStore remote = newStore();
+            try {
+                remote.seed(USER, remoteEntries(n));
+                JournalRepository repo = new JournalRepository(db, remote);
+
+                CountDownLatch done = new CountDownLatch(1);
+                long start = System.nanoTime();
+                repo.restoreFromFirestore(USER, true, null, done::countDown);
+                MainLooper.await(done, 10, TimeUnit.MINUTES);
+                long ns = System.nanoTime() - start;
+
+                assertEquals(n, db.journalEntryDao()
+                        .getSyncedFirestoreIdsInRange(USER, Long.MIN_VALUE, Long.MAX_VALUE)
+                        .size());
+                log("restore", n, ns, remote);
+            } finally {
+                remote.shutdown();
+                db.close();
+            }
+        }
+    }
+
+    @Test
+    public void merge_applyRemoteChanges() {
+        for (int n : SIZES) {
+            AppDatabase db = newDatabase();
+            try {
+                // Insert path: every row is new locally.
+                List<JournalEntryEntity> fresh = toEntities(remoteEntries(n));
+                long start = System.nanoTime();
+                db.journalEntryDao().applyRemoteChanges(USER, fresh, Collections.emptyList());
+                long insertNs = System.nanoTime() - start;
+
+                // Update path: every row exists and its content hash changed.
+                List<JournalEntryEntity> edited = edited(n);
+                start = System.nanoTime();
+                db.journalEntryDao().applyRemoteChanges(USER, edited, Collections.emptyList());
+                long updateNs = System.nanoTime() - start;
+
+                // No-op path: identical hashes, nothing is written.
+                List<JournalEntryEntity> same = edited(n);
+                start = System.nanoTime();
+                db.journalEntryDao().applyRemoteChanges(USER, same, Collections.emptyList());
+                long noopNs = System.nanoTime() - start;
+
+                Log.i(TAG, String.format(Locale.US,
+                        "merge %,d: insert %.1f ms | update %.1f ms | unchanged %.1f ms",
+                        n, insertNs / 1e6, updateNs / 1e6, noopNs / 1e6));
+            } finally {
+                db.close();
+            }
+        }
+    }
+
+    // ── Helpers ──────────────────────────────────────────────────────
+
+    private static AppDatabase newDatabase() {
+        Context context = ApplicationProvider.getApplicationContext();
+        // The Robolectric test thread is the main thread.
+        return Room.inMemoryDatabaseBuilder(context, AppDatabase.class)
+                .allowMainThreadQueries()
+                .build();
+    }
+
+    private static InMemoryJournalStore newStore() {
+        return new InMemoryJournalStore(LATENCY_MS, 0.0, Integer.MAX_VALUE, 42L);
+    }
+
+    // n local entries, each with a pending upsert in the outbox.
+    private static void seedLocal(AppDatabase db, int n) {
+        long now = System.currentTimeMillis();
+        db.runInTransaction(() -> {
+            for (int i = 0; i < n; i++) {
+                JournalEntryEntity e = new JournalEntryEntity(
+                        USER, "happy", "Entry number " + i, now - i * 60_000L);
+                e.firestoreId = "fs-" + i;
+                db.journalEntryDao().insert(e);
+                db.journalOutboxDao().enqueue(USER, e.firestoreId, JournalOutboxEntity.OP_UPSERT);
+            }
+        });
+    }
+
+    private static List<RemoteEntry> remoteEntries(int n) {
+        long now = System.currentTimeMillis();
+        List<RemoteEntry> entries = new ArrayList<>(n);
+        for (int i = 0; i < n; i++) {
+            JournalEntryEntity e = new JournalEntryEntity(
+                    USER, "happy", "Entry number " + i, now - i * 60_000L);
+            e.firestoreId = "fs-" + i;
+            entries.add(RemoteEntry.of(e));
+        }
+        return entries;
+    }
+
+    private static List<JournalEntryEntity> toEntities(List<RemoteEntry> entries) {
+        List<JournalEntryEntity> out = new ArrayList<>(entries.size());
+        for (RemoteEntry r : entries) out.add(r.toEntity(USER));
+        return out;
+    }
+
+    private static List<JournalEntryEntity> edited(int n) {
+        List<JournalEntryEntity> out = toEntities(remoteEntries(n));
+        for (JournalEntryEntity e : out) e.setContent("calm", e.description + " (edited)");
+        return out;
+    }
+
+    private static void log(String phase, int n, long ns, InMemoryJournalStore remote) {
+        double ms = ns / 1e6;
+        Log.i(TAG, String.format(Locale.US,
+                "%s %,d: %.1f ms (%,.0f entries/s) | %d round trips, %d reads, %d writes",
+                phase, n, ms, n / (ms / 1000.0),
+                remote.getRoundTrips(), remote.getReads(), remote.getWrites()));
+    }
+}
@@ -0,0 +1,58 @@
+package com.example.myapplication.testing;
+
+import android.os.Looper;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.robolectric.Shadows.shadowOf;
+
+/**
+ * Waiting helpers for Robolectric tests. The test thread IS the main
+ * looper there, so blocking on it would starve every callback the code
+ * under test posts to the main thread (restore completion, the Tasks
+ * continuations that default to it). These wait while draining it.
+ */
+public final class MainLooper {
+
+    private MainLooper() {}
+
+    // Runs whatever is queued on the main thread right now.
+    public static void idle() {
+        shadowOf(Looper.getMainLooper()).idle();
+    }
+
+    // Waits for 'latch', running main-thread work in the meantime.
+    public static void await(CountDownLatch latch, long timeout, TimeUnit unit)
+            throws InterruptedException, TimeoutException {
+        long deadline = System.nanoTime() + unit.toNanos(timeout);
+        while (!latch.await(5, TimeUnit.MILLISECONDS)) {
+            idle();
+            if (System.nanoTime() > deadline) throw new TimeoutException("Timed out waiting");
+        }
+    }
+
+    // Runs a blocking call (e.g. drainOutbox()) on a worker thread — where
+    // production code runs it — and returns its result.
+    public static <T> T callOffMain(Callable<T> call) throws Exception {
+        AtomicReference<T> result = new AtomicReference<>();
+        AtomicReference<Exception> error = new AtomicReference<>();
+        CountDownLatch done = new CountDownLatch(1);
+        Thread worker = new Thread(() -> {
+            try {
+                result.set(call.call());
+            } catch (Exception e) {
+                error.set(e);
+            } finally {
+                done.countDown();
+            }
+        }, "test-worker");
+        worker.start();
+        await(done, 10, TimeUnit.MINUTES);
+        if (error.get() != null) throw error.get();
+        return result.get();
+    }
+}
@@ -3,6 +3,9 @@ const admin = require("firebase-admin");
 
 admin.initializeApp();
 
+// Retries per document before recursiveDelete() gives up on it.
+const MAX_DELETE_ATTEMPTS = 5;
+
 exports.deleteAccount = onCall({
     region: "us-central1",
     cors: true
@@ -16,8 +19,24 @@ exports.deleteAccount = onCall({
     }
 
     const uid = request.auth.uid;
+    const db = admin.firestore();
 
     try {
+        // Delete all of the user's Firestore data server-side. recursiveDelete()
+        // pages through every sub-collection and deletes documents through a
+        // BulkWriter (batched, parallel, throttled and retried), so history
+        // size is not bounded by the 500-write batch limit and nothing is
+        // transferred to the device. Journal and profile trees go in parallel.
+        const writer = db.bulkWriter();
+        writer.onWriteError((error) =>
+            error.failedAttempts < MAX_DELETE_ATTEMPTS);
+
+        await Promise.all([
+            db.recursiveDelete(db.collection("journal_entries").doc(uid), writer),
+            db.recursiveDelete(db.collection("users").doc(uid), writer),
+        ]);
+
+        // Auth last: if a data delete fails the user can still sign in and retry.
         await admin.auth().deleteUser(uid);
         return { success: true };
     } catch (error) {
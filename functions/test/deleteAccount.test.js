@@ -0,0 +1,57 @@
+// Emulator test for deleteAccount: seeds a 10k-entry account and checks
+// that one call removes the journal, the profile and the Auth user.
+//
+//   npm test   (runs inside `firebase emulators:exec`, see package.json)
+
+const { test, before, after } = require("node:test");
+const assert = require("node:assert");
+
+const fft = require("firebase-functions-test")({ projectId: "demo-mindjar" });
+const admin = require("firebase-admin");
+const { deleteAccount } = require("../index");
+
+const ENTRIES = 10000;
+
+before(() => {
+    assert.ok(process.env.FIRESTORE_EMULATOR_HOST, "Firestore emulator not running");
+    assert.ok(process.env.FIREBASE_AUTH_EMULATOR_HOST, "Auth emulator not running");
+});
+
+after(() => fft.cleanup());
+
+test(`deleteAccount removes a ${ENTRIES}-entry account`, async () => {
+    const db = admin.firestore();
+    const { uid } = await admin.auth().createUser({ email: "delete-me@example.com" });
+
+    // Seed the account the way the app lays it out.
+    await db.collection("users").doc(uid).set({ name: "Delete Me" });
+    const entries = db.collection("journal_entries").doc(uid).collection("entries");
+    const writer = db.bulkWriter();
+    const now = Date.now();
+    for (let i = 0; i < ENTRIES; i++) {
+        const id = `fs-${i}`;
+        writer.set(entries.doc(id), {
+            firestoreId: id,
+            emotion: "happy",
+            description: `Entry number ${i}`,
+            createdAtEpochMs: now - i * 60000,
+            updatedAtEpochMs: now - i * 60000,
+        });
+    }
+    await writer.close();
+    assert.strictEqual((await entries.count().get()).data().count, ENTRIES);
+
+    const start = Date.now();
+    const result = await fft.wrap(deleteAccount)({ auth: { uid }, data: {} });
+    console.log(`deleteAccount: ${ENTRIES} entries in ${Date.now() - start} ms`);
+
+    assert.deepStrictEqual(result, { success: true });
+    assert.strictEqual((await entries.count().get()).data().count, 0);
+    assert.strictEqual((await db.collection("users").doc(uid).get()).exists, false);
+    await assert.rejects(admin.auth().getUser(uid), { code: "auth/user-not-found" });
+});
+
+test("deleteAccount rejects unauthenticated calls", async () => {
+    await assert.rejects(fft.wrap(deleteAccount)({ data: {} }),
+        { code: "unauthenticated" });
+});